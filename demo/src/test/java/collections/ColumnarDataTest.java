@@ -0,0 +1,121 @@
+package collections;
+
+import io.github.palexdev.materialfx.collections.ColumnarData;
+import io.github.palexdev.materialfx.collections.ColumnarData.DoubleColumn;
+import io.github.palexdev.materialfx.collections.ColumnarData.IntColumn;
+import io.github.palexdev.materialfx.collections.ColumnarData.StringColumn;
+import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.controls.MFXColumnarTableColumn;
+import io.github.palexdev.materialfx.controls.MFXTableView;
+import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
+import io.github.palexdev.materialfx.filter.DoubleColumnFilter;
+import io.github.palexdev.materialfx.filter.StringColumnFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+public class ColumnarDataTest {
+	private final String[] symbols = {"AAA", "BBB", "AAA", "CCC", "BBB"};
+	private final double[] prices = {10.5, 3.0, 7.25, 12.0, 3.0};
+
+	private ColumnarData build() {
+		ColumnarData data = new ColumnarData(2);
+		StringColumn symbol = data.addStringColumn("Symbol");
+		DoubleColumn price = data.addDoubleColumn("Price");
+		IntColumn id = data.addIntColumn("ID");
+		data.addRows(symbols.length, row -> {
+			symbol.set(row, symbols[row]);
+			price.set(row, prices[row]);
+			id.set(row, row + 1);
+		});
+		return data;
+	}
+
+	@Test
+	public void columnsTest1() {
+		ColumnarData data = build();
+		StringColumn symbol = (StringColumn) data.getColumn("Symbol");
+
+		assertEquals(5, data.size());
+		assertEquals(List.of(0, 1, 2, 3, 4), data.getRows());
+		assertEquals(3, symbol.getDictionarySize());
+		assertEquals(symbol.getCode(0), symbol.getCode(2));
+		assertEquals("CCC", symbol.get(3));
+		assertEquals("7.25", data.getColumn("Price").format(2));
+
+		data.removeRows(1, 3);
+		assertEquals(3, data.size());
+		assertEquals("CCC", symbol.get(1));
+		assertEquals(4, ((IntColumn) data.getColumn("ID")).getInt(1));
+	}
+
+	@Test
+	public void sortAndFilterTest1() {
+		ColumnarData data = build();
+		DoubleColumn price = (DoubleColumn) data.getColumn("Price");
+		StringColumn symbol = (StringColumn) data.getColumn("Symbol");
+		TransformableList<Integer> rows = new TransformableList<>(data.getRows());
+
+		rows.setComparator(price.sortKey().reversed());
+		assertEquals(List.of(3, 0, 2, 1, 4), rows);
+
+		DoubleColumnFilter priceFilter = new DoubleColumnFilter("Price", price);
+		priceFilter.setSelectedPredicateIndex(3); // greater or equal to
+		rows.setPredicate(priceFilter.predicateFor("7.25"));
+		assertEquals(List.of(3, 0, 2), rows);
+
+		StringColumnFilter symbolFilter = new StringColumnFilter("Symbol", symbol);
+		symbolFilter.setSelectedPredicateIndex(6); // equals
+		rows.setPredicate(symbolFilter.predicateFor("BBB"));
+		assertEquals(List.of(1, 4), rows);
+
+		data.addRow(row -> {
+			symbol.set(row, "BBB");
+			price.set(row, 5.0);
+		});
+		assertEquals(List.of(5, 1, 4), rows);
+	}
+
+	@Test
+	public void cellTextTest1() {
+		ColumnarData data = build();
+		MFXColumnarTableColumn price = new MFXColumnarTableColumn(data.getColumn("Price"));
+		MFXTableRowCell<Integer, ?> cell = price.getRowCellFactory().apply(0);
+
+		assertEquals("7.25", cell.computeText(2));
+		assertEquals("12.0", cell.computeText(3));
+		assertEquals("", cell.computeText(-1));
+		assertEquals("", cell.computeText(null));
+	}
+
+	@Test
+	public void exportTest1() throws Exception {
+		ColumnarData data = build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CompletableFuture<Long> export = WaitForAsyncUtils.asyncFx(() -> {
+			MFXTableView<Integer> table = new MFXTableView<>(data.getRows());
+			table.getTableColumns().addAll(
+					new MFXColumnarTableColumn(data.getColumn("Symbol")),
+					new MFXColumnarTableColumn(data.getColumn("Price"))
+			);
+			return table.exportAsync(Channels.newChannel(out));
+		}).get();
+
+		assertEquals(5, export.get(5, TimeUnit.SECONDS));
+		assertEquals(
+				"Symbol,Price\r\nAAA,10.5\r\nBBB,3.0\r\nAAA,7.25\r\nCCC,12.0\r\nBBB,3.0\r\n",
+				out.toString(StandardCharsets.UTF_8)
+		);
+	}
+}
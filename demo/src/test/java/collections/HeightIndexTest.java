@@ -0,0 +1,56 @@
+package collections;
+
+import io.github.palexdev.materialfx.collections.HeightIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeightIndexTest {
+
+	@Test
+	public void offsetTest1() {
+		HeightIndex index = new HeightIndex(10, 5);
+		assertEquals(50, index.getTotalHeight());
+		assertEquals(20, index.offsetOf(2));
+
+		assertEquals(20, index.setHeight(1, 30));
+		index.setHeight(3, 5);
+		assertEquals(10, index.offsetOf(1));
+		assertEquals(50, index.offsetOf(3));
+		assertEquals(65, index.getTotalHeight());
+		assertEquals(0, index.indexAt(9));
+		assertEquals(1, index.indexAt(10));
+		assertEquals(2, index.indexAt(49));
+		assertEquals(3, index.indexAt(50));
+		assertEquals(4, index.indexAt(1000));
+
+		index.setEstimatedHeight(20);
+		assertEquals(20, index.offsetOf(1));
+		assertEquals(95, index.getTotalHeight());
+		assertEquals(17.5, index.getAverageHeight());
+	}
+
+	@Test
+	public void insertRemoveTest1() {
+		HeightIndex index = new HeightIndex(10, 4);
+		index.setHeight(0, 1);
+		index.setHeight(1, 2);
+		index.setHeight(2, 3);
+		index.setHeight(3, 4);
+
+		index.insert(1, 2);
+		assertEquals(6, index.size());
+		assertFalse(index.isMeasured(1));
+		assertEquals(21, index.offsetOf(3));
+		assertEquals(4, index.getHeight(5));
+
+		index.remove(0, 3);
+		assertEquals(3, index.size());
+		assertEquals(2, index.offsetOf(1));
+		assertEquals(9, index.getTotalHeight());
+
+		index.invalidate(0, 2);
+		assertEquals(24, index.getTotalHeight());
+		assertEquals(2, index.indexAt(20));
+	}
+}
@@ -0,0 +1,50 @@
+package collections;
+
+import io.github.palexdev.materialfx.collections.ListDiff;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListDiffTest {
+
+	@Test
+	public void diffTest1() {
+		ObservableList<String> list = FXCollections.observableArrayList("A", "B", "C", "D", "E");
+		List<String> changes = new ArrayList<>();
+		list.addListener((ListChangeListener<? super String>) c -> {
+			while (c.next()) {
+				changes.add(c.getFrom() + "-" + c.getTo() + ":" + c.getRemoved());
+			}
+		});
+
+		ListDiff<String> diff = ListDiff.compute(list, List.of("A", "C", "D", "B", "F", "E"));
+		diff.applyTo(list);
+		assertEquals(List.of("A", "C", "D", "B", "F", "E"), list);
+		assertEquals(List.of("1-1:[B]", "3-5:[]"), changes);
+		assertEquals(0, diff.getNewIndex(0));
+		assertEquals(3, diff.getNewIndex(1));
+		assertEquals(5, diff.getNewIndex(4));
+	}
+
+	@Test
+	public void diffTest2() {
+		ObservableList<String[]> list = FXCollections.observableArrayList(
+				new String[]{"1", "a"}, new String[]{"2", "b"}, new String[]{"3", "c"}
+		);
+		String[] updated = {"2", "B"};
+		ListDiff<String[]> diff = ListDiff.compute(list, List.of(list.get(0), updated), s -> s[0]);
+
+		assertEquals(2, diff.getOperations().size());
+		assertEquals(-1, diff.getNewIndex(2));
+		diff.applyTo(list);
+		assertSame(updated, list.get(1));
+		assertEquals(2, list.size());
+		assertTrue(ListDiff.compute(list, List.copyOf(list), s -> s[0]).isEmpty());
+	}
+}
@@ -1,15 +1,28 @@
 package collections;
 
+import io.github.palexdev.materialfx.collections.SortKey;
 import io.github.palexdev.materialfx.collections.TransformableList;
+import io.github.palexdev.materialfx.collections.TransformableListWrapper;
+import io.github.palexdev.materialfx.enums.Refinement;
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.util.WaitForAsyncUtils;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -41,6 +54,383 @@ public void sortAndFilterTest1() {
 		assertEquals(transformed.sourceToView(1), -1);
 	}
 
+	@Test
+	public void sourceToViewTest1() {
+		ObservableList<String> source = FXCollections.observableArrayList("C", "E", "A", "D", "B");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		transformed.setComparator(Comparator.naturalOrder());
+		transformed.setPredicate(s -> !s.equals("D"));
+
+		assertEquals(List.of("A", "B", "C", "E"), transformed);
+		for (int i = 0; i < transformed.size(); i++) {
+			assertEquals(i, transformed.sourceToView(transformed.viewToSource(i)));
+		}
+		assertEquals(2, transformed.sourceToView(0));
+		assertEquals(-1, transformed.sourceToView(3));
+		assertEquals(1, transformed.sourceToView(4));
+	}
+
+	@Test
+	public void incrementalChangeTest1() {
+		ObservableList<String> source = FXCollections.observableArrayList("A", "C", "E");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		transformed.setComparator(Comparator.reverseOrder(), true);
+
+		List<String> changes = new ArrayList<>();
+		transformed.addListener((ListChangeListener<? super String>) c -> {
+			while (c.next()) {
+				changes.add(c.wasAdded() + ":" + c.getFrom() + "-" + c.getTo() + ":" + c.getRemoved());
+			}
+		});
+
+		source.add("D");
+		assertEquals(List.of("E", "D", "C", "A"), transformed);
+		assertEquals(List.of("true:1-2:[]"), changes);
+
+		changes.clear();
+		source.remove("C");
+		assertEquals(List.of("E", "D", "A"), transformed);
+		assertEquals(List.of("false:2-2:[C]"), changes);
+	}
+
+	@Test
+	public void incrementalChangeTest2() {
+		ObservableList<String> source = FXCollections.observableArrayList("A", "B", "C", "D", "E");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		transformed.setPredicate(s -> !s.equals("B"));
+
+		source.addAll(1, List.of("B", "F"));
+		assertEquals(List.of("A", "F", "C", "D", "E"), transformed);
+		assertEquals(6, transformed.viewToSource(4));
+		assertEquals(2, transformed.sourceToView(4));
+		assertEquals(-1, transformed.sourceToView(3));
+	}
+
+	@Test
+	public void insertionTest1() {
+		ObservableList<String> source = FXCollections.observableArrayList("B", "D", "F", "H");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		transformed.setComparator(Comparator.naturalOrder());
+
+		List<String> changes = new ArrayList<>();
+		transformed.addListener((ListChangeListener<? super String>) c -> {
+			while (c.next()) {
+				changes.add(c.getFrom() + "-" + c.getTo());
+			}
+		});
+
+		source.addAll("E", "A");
+		assertEquals(List.of("A", "B", "D", "E", "F", "H"), transformed);
+		assertEquals(List.of("0-1", "3-4"), changes);
+
+		changes.clear();
+		transformed.setInsertionThreshold(0);
+		source.addAll("I", "C", "D");
+		assertEquals(List.of("A", "B", "C", "D", "D", "E", "F", "H", "I"), transformed);
+		assertEquals(List.of("2-3", "4-5", "8-9"), changes);
+		assertEquals(1, transformed.viewToSource(3));
+		assertEquals(8, transformed.viewToSource(4));
+	}
+
+	@Test
+	public void refinementTest1() {
+		ObservableList<String> source = FXCollections.observableArrayList("A", "AB", "ABC", "B", "BC");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		transformed.setComparator(Comparator.reverseOrder(), true);
+
+		transformed.setPredicate(s -> s.contains("B"), Refinement.NARROWING);
+		assertEquals(List.of("BC", "B", "ABC", "AB"), transformed);
+
+		transformed.setPredicate(s -> s.contains("BC"), Refinement.NARROWING);
+		assertEquals(List.of("BC", "ABC"), transformed);
+		assertEquals(-1, transformed.sourceToView(3));
+
+		transformed.setPredicate(s -> s.startsWith("A") || s.contains("BC"), Refinement.WIDENING);
+		assertEquals(List.of("BC", "ABC", "AB", "A"), transformed);
+		assertEquals(3, transformed.sourceToView(0));
+	}
+
+	@Test
+	public void sortKeyTest1() {
+		ObservableList<String> source = FXCollections.observableArrayList("CCC", "A", "DDDD", "BB", "E");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		AtomicInteger extractions = new AtomicInteger();
+		SortKey<String> key = SortKey.ofInt(s -> {
+			extractions.incrementAndGet();
+			return s.length();
+		});
+
+		transformed.setComparator(key);
+		assertEquals(List.of("A", "E", "BB", "CCC", "DDDD"), transformed);
+		assertEquals(5, extractions.get());
+
+		transformed.setComparator(key.reversed(), true);
+		assertEquals(List.of("DDDD", "CCC", "BB", "A", "E"), transformed);
+		assertEquals(5, extractions.get());
+	}
+
+	@Test
+	public void sortKeyTest2() {
+		ObservableList<String> source = FXCollections.observableArrayList("bb", "c", "ab", "a", "ba", "b");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		AtomicInteger extractions = new AtomicInteger();
+		SortKey<String> length = SortKey.ofInt(s -> {
+			extractions.incrementAndGet();
+			return s.length();
+		});
+		SortKey<String> first = SortKey.of(s -> {
+			extractions.incrementAndGet();
+			return s.charAt(0);
+		});
+
+		transformed.setComparator(SortKey.composite(length, first));
+		assertEquals(List.of("a", "b", "c", "ab", "bb", "ba"), transformed);
+		assertEquals(12, extractions.get());
+
+		transformed.setComparator(SortKey.composite(length, first.reversed()));
+		assertEquals(List.of("c", "b", "a", "bb", "ba", "ab"), transformed);
+		assertEquals(24, extractions.get());
+	}
+
+	@Test
+	public void sortKeyTest3() {
+		ObservableList<IntegerProperty> source = FXCollections.observableArrayList(p -> new Observable[]{p});
+		source.addAll(new SimpleIntegerProperty(3), new SimpleIntegerProperty(1), new SimpleIntegerProperty(2));
+		TransformableList<IntegerProperty> transformed = new TransformableList<>(source);
+		SortKey<IntegerProperty> key = SortKey.ofInt(IntegerProperty::get);
+
+		transformed.setComparator(key);
+		assertEquals(List.of(1, 2, 3), transformed.stream().map(IntegerProperty::get).collect(Collectors.toList()));
+
+		source.get(1).set(10);
+		assertEquals(List.of(2, 3, 10), transformed.stream().map(IntegerProperty::get).collect(Collectors.toList()));
+
+		transformed.setComparator(key.reversed(), true);
+		assertEquals(List.of(10, 3, 2), transformed.stream().map(IntegerProperty::get).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void sortKeyTest4() {
+		ObservableList<int[]> source = FXCollections.observableArrayList(new int[]{3}, new int[]{1}, new int[]{2});
+		TransformableList<int[]> transformed = new TransformableList<>(source);
+		ToIntFunction<int[]> extractor = a -> a[0];
+
+		transformed.setComparator(SortKey.ofInt(extractor));
+		assertEquals(List.of(1, 2, 3), transformed.stream().map(a -> a[0]).collect(Collectors.toList()));
+
+		// Mutated in place, the source doesn't report it
+		source.get(1)[0] = 10;
+		SortKey<int[]> key = SortKey.ofInt(extractor);
+		transformed.setComparator(key);
+		assertEquals(List.of(2, 3, 10), transformed.stream().map(a -> a[0]).collect(Collectors.toList()));
+
+		source.get(1)[0] = 0;
+		transformed.invalidateKeys();
+		transformed.setComparator(key.reversed(), true);
+		assertEquals(List.of(3, 2, 0), transformed.stream().map(a -> a[0]).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void sortKeyTest5() {
+		ObservableList<int[]> source = FXCollections.observableArrayList(new int[]{1, 3}, new int[]{0, 1}, new int[]{1, 2}, new int[]{0, 4});
+		TransformableList<int[]> transformed = new TransformableList<>(source);
+		SortKey<int[]> group = SortKey.ofInt(a -> a[0]);
+		SortKey<int[]> value = SortKey.ofInt(a -> a[1]);
+
+		transformed.setComparator(SortKey.composite(group, value));
+		assertEquals(List.of(1, 4, 2, 3), transformed.stream().map(a -> a[1]).collect(Collectors.toList()));
+
+		// Mutated in place, the source doesn't report it
+		source.get(1)[0] = 2;
+		SortKey<int[]> composite = SortKey.composite(group, value.reversed());
+		transformed.setComparator(composite);
+		assertEquals(List.of(4, 3, 2, 1), transformed.stream().map(a -> a[1]).collect(Collectors.toList()));
+
+		source.get(3)[0] = 3;
+		transformed.invalidateKeys();
+		transformed.setComparator(composite.reversed(), true);
+		assertEquals(List.of(4, 1, 2, 3), transformed.stream().map(a -> a[1]).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void parallelTest1() {
+		int threshold = 20_000;
+		for (int size : new int[]{threshold - 1, threshold, threshold + 1, threshold * 3}) {
+			ObservableList<Integer> source = FXCollections.observableArrayList();
+			for (int i = 0; i < size; i++) {
+				source.add((i * 7919) % 97);
+			}
+
+			for (Comparator<Integer> comparator : List.of(Comparator.<Integer>naturalOrder(), SortKey.ofInt(Integer::intValue).reversed())) {
+				TransformableList<Integer> sequential = new TransformableList<>(source, i -> i % 5 != 0, comparator);
+				TransformableList<Integer> parallel = new TransformableList<>(source);
+				parallel.setParallelThreshold(threshold);
+				parallel.setParallel(true);
+				parallel.setPredicate(i -> i % 5 != 0);
+				parallel.setComparator(comparator);
+
+				assertEquals(sequential.size(), parallel.size());
+				for (int i = 0; i < parallel.size(); i++) {
+					assertEquals(sequential.viewToSource(i), parallel.viewToSource(i));
+					// Stable, equal items keep the source order
+					if (i > 0 && parallel.get(i - 1).equals(parallel.get(i))) {
+						assertTrue(parallel.viewToSource(i - 1) < parallel.viewToSource(i));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void batchTest1() {
+		ObservableList<String> source = FXCollections.observableArrayList("A", "B", "C", "D", "E");
+		TransformableListWrapper<String> wrapper = new TransformableListWrapper<>(source);
+		wrapper.setPredicate(s -> !s.equals("X"));
+
+		List<String> changes = new ArrayList<>();
+		wrapper.addListener((ListChangeListener<? super String>) c -> {
+			while (c.next()) {
+				changes.add(c.getFrom() + "-" + c.getTo() + ":" + c.getRemoved());
+			}
+		});
+
+		wrapper.runBatch(() -> {
+			wrapper.set(2, "X");
+			wrapper.beginBatch();
+			wrapper.add(3, "F");
+			wrapper.endBatch();
+			wrapper.remove(1);
+			assertTrue(wrapper.isBatching());
+			assertEquals(List.of("A", "B", "C", "D", "E"), wrapper);
+			assertTrue(changes.isEmpty());
+		});
+
+		assertFalse(wrapper.isBatching());
+		assertEquals(List.of("A", "F", "D", "E"), wrapper);
+		assertEquals(List.of("1-2:[B, C]"), changes);
+		assertThrows(IllegalStateException.class, wrapper::endBatch);
+	}
+
+	@Test
+	public void batchTest2() {
+		ObservableList<String> source = FXCollections.observableArrayList("A", "B", "C", "D", "E");
+		TransformableListWrapper<String> wrapper = new TransformableListWrapper<>(source);
+
+		List<String> changes = new ArrayList<>();
+		wrapper.addListener((ListChangeListener<? super String>) c -> {
+			while (c.next()) {
+				changes.add(c.getFrom() + "-" + c.getTo() + ":" + c.getRemoved());
+			}
+		});
+
+		wrapper.runBatch(() -> {
+			wrapper.remove(0, 2);
+			wrapper.addAll("F", "G", "H");
+		});
+
+		assertEquals(List.of("C", "D", "E", "F", "G", "H"), wrapper);
+		assertEquals(List.of("0-0:[A, B]", "3-6:[]"), changes);
+	}
+
+	@Test
+	public void asyncTest1() throws Exception {
+		ObservableList<String> source = FXCollections.observableArrayList("D", "B", "E", "A", "C");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		List<Runnable> tasks = new ArrayList<>();
+		transformed.setAsync(true);
+		transformed.setAsyncExecutor(tasks::add);
+
+		List<String> changes = new ArrayList<>();
+		transformed.addListener((ListChangeListener<? super String>) c -> {
+			while (c.next()) {
+				changes.add(c.getFrom() + "-" + c.getTo() + ":" + c.getRemoved());
+			}
+		});
+
+		fx(() -> transformed.setComparator(Comparator.naturalOrder()));
+		assertTrue(transformed.isComputing());
+		assertEquals(List.of("D", "B", "E", "A", "C"), transformed);
+
+		// The source keeps changing while computing
+		fx(() -> {
+			source.remove("E");
+			source.addAll("0", "F");
+			source.set(0, "Z");
+		});
+		assertEquals(List.of("Z", "B", "A", "C", "0", "F"), transformed);
+
+		changes.clear();
+		tasks.remove(0).run();
+		WaitForAsyncUtils.waitForFxEvents();
+		assertFalse(transformed.isComputing());
+		assertEquals(List.of("0", "A", "B", "C", "F", "Z"), transformed);
+		assertEquals(List.of("0-6:[Z, B, A, C, 0, F]"), changes);
+		for (int i = 0; i < transformed.size(); i++) {
+			assertEquals(i, transformed.sourceToView(transformed.viewToSource(i)));
+		}
+	}
+
+	@Test
+	public void asyncTest2() throws Exception {
+		ObservableList<String> source = FXCollections.observableArrayList("D", "B", "E", "A", "C");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		List<Runnable> tasks = new ArrayList<>();
+		transformed.setAsync(true);
+		transformed.setAsyncExecutor(tasks::add);
+
+		// Cancelled before running
+		fx(() -> transformed.setComparator(Comparator.naturalOrder()));
+		fx(() -> transformed.setComparator(Comparator.reverseOrder()));
+		tasks.remove(0).run();
+		WaitForAsyncUtils.waitForFxEvents();
+		assertTrue(transformed.isComputing());
+		assertEquals(List.of("D", "B", "E", "A", "C"), transformed);
+
+		// Completed but superseded before being published
+		fx(() -> {
+			tasks.remove(0).run();
+			transformed.setPredicate(s -> !s.equals("A"));
+		});
+		WaitForAsyncUtils.waitForFxEvents();
+		assertTrue(transformed.isComputing());
+		assertEquals(List.of("D", "B", "E", "A", "C"), transformed);
+
+		tasks.remove(0).run();
+		WaitForAsyncUtils.waitForFxEvents();
+		assertFalse(transformed.isComputing());
+		assertEquals(List.of("E", "D", "C", "B"), transformed);
+		assertTrue(tasks.isEmpty());
+	}
+
+	@Test
+	public void asyncTest3() throws Exception {
+		ObservableList<String> source = FXCollections.observableArrayList("D", "B", "E", "A", "C");
+		TransformableList<String> transformed = new TransformableList<>(source);
+		List<Runnable> tasks = new ArrayList<>();
+		transformed.setAsync(true);
+		transformed.setAsyncExecutor(tasks::add);
+
+		IllegalStateException failure = new IllegalStateException();
+		fx(() -> transformed.setComparator((s1, s2) -> {
+			throw failure;
+		}));
+		tasks.remove(0).run();
+		WaitForAsyncUtils.waitForFxEvents();
+		assertFalse(transformed.isComputing());
+		assertSame(failure, transformed.getComputationException());
+		assertEquals(List.of("D", "B", "E", "A", "C"), transformed);
+
+		fx(() -> transformed.setComparator(Comparator.naturalOrder()));
+		tasks.remove(0).run();
+		WaitForAsyncUtils.waitForFxEvents();
+		assertNull(transformed.getComputationException());
+		assertEquals(List.of("A", "B", "C", "D", "E"), transformed);
+	}
+
+	private void fx(Runnable action) throws Exception {
+		WaitForAsyncUtils.asyncFx(action).get();
+	}
+
 	@Test
 	public void testJavaFX1() {
 		SortedList<String> sorted = new SortedList<>(source);
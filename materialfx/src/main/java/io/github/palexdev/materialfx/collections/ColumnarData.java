@@ -0,0 +1,569 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A columnar data model, an alternative to having one object per row, meant for very big and mostly numeric datasets.
+ * <p>
+ * Each column stores its values in a primitive array ({@link IntColumn}, {@link LongColumn}, {@link DoubleColumn})
+ * or as dictionary-encoded strings ({@link StringColumn}, each distinct String is stored once and rows only hold
+ * an int code). Rows are not objects, they are identified by their index, so the only per-row cost is the
+ * cells of the arrays. Scans over a column (filters, sorts) are also cache-friendly.
+ * <p>
+ * The rows are exposed by {@link #getRows()}, an {@link ObservableList} of row indexes which does not store anything,
+ * the list to use as the items of a table view:
+ * <pre>
+ * {@code
+ *     ColumnarData data = new ColumnarData();
+ *     StringColumn symbol = data.addStringColumn("Symbol");
+ *     DoubleColumn price = data.addDoubleColumn("Price");
+ *     data.addRow(row -> {
+ *         symbol.set(row, "ABC");
+ *         price.set(row, 12.5);
+ *     });
+ *
+ *     MFXTableView<Integer> table = new MFXTableView<>(data.getRows());
+ *     table.getTableColumns().addAll(
+ *         new MFXColumnarTableColumn(symbol),
+ *         new MFXColumnarTableColumn(price)
+ *     );
+ * }
+ * </pre>
+ * Rows are added, updated and removed through this class, which fires the corresponding changes on the rows list.
+ * Values must be written in the writers passed to {@link #addRow(IntConsumer)}, {@link #addRows(int, IntConsumer)}
+ * and {@link #updateRow(int, IntConsumer)}, so that the rows are filtered and sorted with their final values.
+ * <p>
+ * Like any other JavaFX list, the data is not thread-safe and must be modified on the JavaFX thread once shown.
+ */
+public class ColumnarData {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final int DEFAULT_CAPACITY = 16;
+	private final List<Column> columns = new ArrayList<>();
+	private final RowList rows = new RowList();
+	private int size = 0;
+	private int capacity;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ColumnarData() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ColumnarData(int initialCapacity) {
+		this.capacity = Math.max(initialCapacity, 0);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Adds a new column of ints with the given name.
+	 */
+	public IntColumn addIntColumn(String name) {
+		return addColumn(new IntColumn(name, capacity));
+	}
+
+	/**
+	 * Adds a new column of longs with the given name.
+	 */
+	public LongColumn addLongColumn(String name) {
+		return addColumn(new LongColumn(name, capacity));
+	}
+
+	/**
+	 * Adds a new column of doubles with the given name.
+	 */
+	public DoubleColumn addDoubleColumn(String name) {
+		return addColumn(new DoubleColumn(name, capacity));
+	}
+
+	/**
+	 * Adds a new column of dictionary-encoded Strings with the given name.
+	 */
+	public StringColumn addStringColumn(String name) {
+		return addColumn(new StringColumn(name, capacity));
+	}
+
+	/**
+	 * Adds a new row, the given writer receives the index of the new row and is responsible
+	 * for setting its values.
+	 *
+	 * @return the index of the new row
+	 */
+	public int addRow(IntConsumer writer) {
+		int row = size;
+		addRows(1, writer);
+		return row;
+	}
+
+	/**
+	 * Adds the given number of rows at the end, the given writer is called for each new row with its index
+	 * and is responsible for setting its values. A single change is fired at the end.
+	 */
+	public void addRows(int count, IntConsumer writer) {
+		if (count <= 0) return;
+		int from = size;
+		ensureCapacity(from + count);
+		for (int row = from; row < from + count; row++) {
+			writer.accept(row);
+		}
+		size += count;
+		rows.fireAdded(from, size);
+	}
+
+	/**
+	 * Updates the row at the given index, the given writer receives the index and is responsible for setting
+	 * the new values. An update change is fired, so that the row is filtered and sorted again.
+	 */
+	public void updateRow(int row, IntConsumer writer) {
+		Objects.checkIndex(row, size);
+		writer.accept(row);
+		rows.fireUpdated(row);
+	}
+
+	/**
+	 * Removes the rows from the given index (inclusive) to the given index (exclusive), the following
+	 * rows are shifted, so their indexes change.
+	 */
+	public void removeRows(int from, int to) {
+		Objects.checkFromToIndex(from, to, size);
+		if (from == to) return;
+		for (Column column : columns) {
+			column.remove(from, to, size);
+		}
+		size -= to - from;
+		rows.fireRemoved(from, to);
+	}
+
+	/**
+	 * Removes all the rows, the columns are kept.
+	 */
+	public void clear() {
+		removeRows(0, size);
+	}
+
+	/**
+	 * Makes sure the columns can hold at least the given number of rows without growing.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity <= capacity) return;
+		int newCapacity = Math.max(minCapacity, Math.max(capacity + (capacity >> 1), DEFAULT_CAPACITY));
+		for (Column column : columns) {
+			column.grow(newCapacity);
+		}
+		capacity = newCapacity;
+	}
+
+	private <C extends Column> C addColumn(C column) {
+		columns.add(column);
+		return column;
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return an {@link ObservableList} of the rows' indexes, it doesn't store anything, the item
+	 * at index i is just i
+	 */
+	public ObservableList<Integer> getRows() {
+		return rows;
+	}
+
+	/**
+	 * @return an unmodifiable view of the columns
+	 */
+	public List<Column> getColumns() {
+		return Collections.unmodifiableList(columns);
+	}
+
+	/**
+	 * @return the column with the given name, null if not found
+	 */
+	public Column getColumn(String name) {
+		return columns.stream()
+				.filter(column -> column.getName().equals(name))
+				.findFirst()
+				.orElse(null);
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The rows list, each row is represented by its index.
+	 */
+	private class RowList extends ObservableListBase<Integer> {
+		@Override
+		public Integer get(int index) {
+			Objects.checkIndex(index, size);
+			return index;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		private void fireAdded(int from, int to) {
+			beginChange();
+			nextAdd(from, to);
+			endChange();
+		}
+
+		private void fireUpdated(int row) {
+			beginChange();
+			nextUpdate(row);
+			endChange();
+		}
+
+		private void fireRemoved(int from, int to) {
+			List<Integer> removed = new ArrayList<>(to - from);
+			for (int i = from; i < to; i++) {
+				removed.add(i);
+			}
+			beginChange();
+			nextRemove(from, removed);
+			endChange();
+		}
+	}
+
+	/**
+	 * Base class for columns.
+	 * <p>
+	 * Values are read and written by row index. Writes are allowed for rows being added in
+	 * {@link #addRows(int, IntConsumer)}, before they become part of the data.
+	 */
+	public static abstract class Column {
+		private final String name;
+
+		protected Column(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * @return the value at the given row, boxed
+		 */
+		public abstract Object get(int row);
+
+		/**
+		 * @return the text representing the value at the given row
+		 */
+		public abstract String format(int row);
+
+		/**
+		 * @return a {@link SortKey} which sorts the rows by the values of this column
+		 */
+		public abstract SortKey<Integer> sortKey();
+
+		/**
+		 * Grows the column's storage to the given capacity.
+		 */
+		protected abstract void grow(int capacity);
+
+		/**
+		 * Removes the values from the given row (inclusive) to the given row (exclusive) by
+		 * shifting the values that follow, up to the given size.
+		 */
+		protected abstract void remove(int from, int to, int size);
+
+		/**
+		 * @return the column's name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	/**
+	 * A column of ints, stored in an int array.
+	 */
+	public static class IntColumn extends Column {
+		private int[] values;
+		private IntFunction<String> formatter = String::valueOf;
+		private SortKey<Integer> sortKey;
+
+		private IntColumn(String name, int capacity) {
+			super(name);
+			this.values = new int[capacity];
+		}
+
+		public int getInt(int row) {
+			return values[row];
+		}
+
+		public void set(int row, int value) {
+			values[row] = value;
+		}
+
+		@Override
+		public Integer get(int row) {
+			return values[row];
+		}
+
+		@Override
+		public String format(int row) {
+			return formatter.apply(values[row]);
+		}
+
+		@Override
+		public SortKey<Integer> sortKey() {
+			if (sortKey == null) sortKey = SortKey.ofInt(this::getInt);
+			return sortKey;
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		@Override
+		protected void remove(int from, int to, int size) {
+			System.arraycopy(values, to, values, from, size - to);
+		}
+
+		/**
+		 * Sets the function used to convert the values to text, {@link String#valueOf(int)} by default.
+		 */
+		public void setFormatter(IntFunction<String> formatter) {
+			this.formatter = formatter;
+		}
+	}
+
+	/**
+	 * A column of longs, stored in a long array.
+	 */
+	public static class LongColumn extends Column {
+		private long[] values;
+		private LongFunction<String> formatter = String::valueOf;
+		private SortKey<Integer> sortKey;
+
+		private LongColumn(String name, int capacity) {
+			super(name);
+			this.values = new long[capacity];
+		}
+
+		public long getLong(int row) {
+			return values[row];
+		}
+
+		public void set(int row, long value) {
+			values[row] = value;
+		}
+
+		@Override
+		public Long get(int row) {
+			return values[row];
+		}
+
+		@Override
+		public String format(int row) {
+			return formatter.apply(values[row]);
+		}
+
+		@Override
+		public SortKey<Integer> sortKey() {
+			if (sortKey == null) sortKey = SortKey.ofLong(this::getLong);
+			return sortKey;
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		@Override
+		protected void remove(int from, int to, int size) {
+			System.arraycopy(values, to, values, from, size - to);
+		}
+
+		/**
+		 * Sets the function used to convert the values to text, {@link String#valueOf(long)} by default.
+		 */
+		public void setFormatter(LongFunction<String> formatter) {
+			this.formatter = formatter;
+		}
+	}
+
+	/**
+	 * A column of doubles, stored in a double array.
+	 */
+	public static class DoubleColumn extends Column {
+		private double[] values;
+		private DoubleFunction<String> formatter = String::valueOf;
+		private SortKey<Integer> sortKey;
+
+		private DoubleColumn(String name, int capacity) {
+			super(name);
+			this.values = new double[capacity];
+		}
+
+		public double getDouble(int row) {
+			return values[row];
+		}
+
+		public void set(int row, double value) {
+			values[row] = value;
+		}
+
+		@Override
+		public Double get(int row) {
+			return values[row];
+		}
+
+		@Override
+		public String format(int row) {
+			return formatter.apply(values[row]);
+		}
+
+		@Override
+		public SortKey<Integer> sortKey() {
+			if (sortKey == null) sortKey = SortKey.ofDouble(this::getDouble);
+			return sortKey;
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		@Override
+		protected void remove(int from, int to, int size) {
+			System.arraycopy(values, to, values, from, size - to);
+		}
+
+		/**
+		 * Sets the function used to convert the values to text, {@link String#valueOf(double)} by default.
+		 */
+		public void setFormatter(DoubleFunction<String> formatter) {
+			this.formatter = formatter;
+		}
+	}
+
+	/**
+	 * A column of Strings, dictionary-encoded.
+	 * <p>
+	 * Each distinct String is stored once in a dictionary, and each row holds the int code of its String
+	 * (-1 for null). This is ideal for columns with many repeated values, and allows to evaluate
+	 * filters once per distinct value rather than once per row.
+	 * <p>
+	 * The dictionary only grows, removing rows does not remove their Strings from it.
+	 */
+	public static class StringColumn extends Column {
+		private int[] codes;
+		private final List<String> dictionary = new ArrayList<>();
+		private final Map<String, Integer> codesByValue = new HashMap<>();
+		private UnaryOperator<String> formatter = s -> Objects.toString(s, "");
+		private SortKey<Integer> sortKey;
+
+		private StringColumn(String name, int capacity) {
+			super(name);
+			this.codes = new int[capacity];
+		}
+
+		/**
+		 * @return the dictionary code of the String at the given row, -1 if it's null
+		 */
+		public int getCode(int row) {
+			return codes[row];
+		}
+
+		/**
+		 * @return the String corresponding to the given dictionary code
+		 */
+		public String decode(int code) {
+			return code >= 0 ? dictionary.get(code) : null;
+		}
+
+		/**
+		 * @return the number of distinct Strings in the dictionary
+		 */
+		public int getDictionarySize() {
+			return dictionary.size();
+		}
+
+		public void set(int row, String value) {
+			if (value == null) {
+				codes[row] = -1;
+				return;
+			}
+			codes[row] = codesByValue.computeIfAbsent(value, s -> {
+				dictionary.add(s);
+				return dictionary.size() - 1;
+			});
+		}
+
+		@Override
+		public String get(int row) {
+			return decode(codes[row]);
+		}
+
+		@Override
+		public String format(int row) {
+			return formatter.apply(get(row));
+		}
+
+		@Override
+		public SortKey<Integer> sortKey() {
+			if (sortKey == null) sortKey = SortKey.of(this::get);
+			return sortKey;
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			codes = Arrays.copyOf(codes, capacity);
+		}
+
+		@Override
+		protected void remove(int from, int to, int size) {
+			System.arraycopy(codes, to, codes, from, size - to);
+		}
+
+		/**
+		 * Sets the function used to convert the values to text, by default null is converted to an empty String.
+		 */
+		public void setFormatter(UnaryOperator<String> formatter) {
+			this.formatter = formatter;
+		}
+	}
+}
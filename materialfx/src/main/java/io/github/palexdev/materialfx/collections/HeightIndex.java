@@ -0,0 +1,327 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the heights of the items of a list, to map scroll offsets to indexes and vice versa in O(log n)
+ * when the items have different heights.
+ * <p>
+ * Items start unmeasured, and their height is the estimated height, {@link #getEstimatedHeight()}, until
+ * {@link #setHeight(int, double)} is called for them. Two Fenwick trees (binary indexed trees) keep the prefix sums
+ * of the measured heights and of the number of measured items, so the offset of an item is the sum of the measured
+ * heights before it plus the estimated height for each unmeasured item before it. This way changing the estimated
+ * height costs O(1), and measuring an item costs O(log n).
+ * <p>
+ * Adding or removing items at the end costs O(log n) per item, in any other position the trees are rebuilt in O(n).
+ */
+public class HeightIndex {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private double[] heights;
+	private double[] heightsTree;
+	private int[] countsTree;
+	private int size;
+	private double estimatedHeight;
+	private double measuredSum;
+	private int measuredCount;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public HeightIndex(double estimatedHeight) {
+		this(estimatedHeight, 0);
+	}
+
+	public HeightIndex(double estimatedHeight, int size) {
+		this.estimatedHeight = estimatedHeight;
+		this.size = size;
+		int capacity = Math.max(16, size);
+		heights = new double[capacity];
+		heightsTree = new double[capacity + 1];
+		countsTree = new int[capacity + 1];
+		Arrays.fill(heights, Double.NaN);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the offset at which the item at the given index starts, which is the sum of the heights of the previous
+	 * items. The index can be equal to the size, to get the total height
+	 */
+	public double offsetOf(int index) {
+		checkIndex(index, size + 1);
+		double sum = 0;
+		int count = 0;
+		for (int i = index; i > 0; i -= i & -i) {
+			sum += heightsTree[i];
+			count += countsTree[i];
+		}
+		return sum + (index - count) * estimatedHeight;
+	}
+
+	/**
+	 * @return the index of the item which contains the given offset, the first item for negative offsets,
+	 * the last item for offsets after the end, -1 if there are no items
+	 */
+	public int indexAt(double offset) {
+		if (size == 0) return -1;
+		if (offset <= 0) return 0;
+
+		int index = 0;
+		double remaining = offset;
+		for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+			int next = index + step;
+			if (next > size) continue;
+			double rangeHeight = heightsTree[next] + (step - countsTree[next]) * estimatedHeight;
+			if (rangeHeight <= remaining) {
+				index = next;
+				remaining -= rangeHeight;
+			}
+		}
+
+		// The descent sums the heights in a different order than offsetOf(int), the result is
+		// checked against it so that the two stay consistent despite the rounding errors
+		if (index < size - 1 && offsetOf(index + 1) <= offset) {
+			index++;
+		} else if (index > 0 && index < size && offsetOf(index) > offset) {
+			index--;
+		}
+		return Math.min(index, size - 1);
+	}
+
+	/**
+	 * @return the height of the item at the given index, the estimated height if not measured
+	 */
+	public double getHeight(int index) {
+		checkIndex(index, size);
+		double height = heights[index];
+		return Double.isNaN(height) ? estimatedHeight : height;
+	}
+
+	/**
+	 * @return whether the height of the item at the given index has been set with {@link #setHeight(int, double)}
+	 */
+	public boolean isMeasured(int index) {
+		checkIndex(index, size);
+		return !Double.isNaN(heights[index]);
+	}
+
+	/**
+	 * Sets the measured height of the item at the given index.
+	 *
+	 * @return the difference between the new height and the previous one, measured or estimated
+	 */
+	public double setHeight(int index, double height) {
+		checkIndex(index, size);
+		double old = heights[index];
+		boolean wasMeasured = !Double.isNaN(old);
+		if (wasMeasured && old == height) return 0;
+
+		heights[index] = height;
+		double delta = wasMeasured ? height - old : height;
+		int countDelta = wasMeasured ? 0 : 1;
+		update(index, delta, countDelta);
+		measuredSum += delta;
+		measuredCount += countDelta;
+		return height - (wasMeasured ? old : estimatedHeight);
+	}
+
+	/**
+	 * Makes the items in the given range unmeasured, for example because their content changed.
+	 */
+	public void invalidate(int from, int to) {
+		checkIndex(from, size + 1);
+		checkIndex(to, size + 1);
+		for (int i = from; i < to; i++) {
+			double old = heights[i];
+			if (Double.isNaN(old)) continue;
+			heights[i] = Double.NaN;
+			update(i, -old, -1);
+			measuredSum -= old;
+			measuredCount--;
+		}
+	}
+
+	/**
+	 * Makes all the items unmeasured.
+	 */
+	public void invalidateAll() {
+		Arrays.fill(heights, 0, size, Double.NaN);
+		Arrays.fill(heightsTree, 0);
+		Arrays.fill(countsTree, 0);
+		measuredSum = 0;
+		measuredCount = 0;
+	}
+
+	/**
+	 * Inserts the given number of unmeasured items at the given index.
+	 */
+	public void insert(int index, int count) {
+		checkIndex(index, size + 1);
+		if (count <= 0) return;
+		ensureCapacity(size + count);
+		if (index == size) {
+			for (int i = 0; i < count; i++) {
+				heights[size] = Double.NaN;
+				size++;
+				initNode(size);
+			}
+			return;
+		}
+
+		System.arraycopy(heights, index, heights, index + count, size - index);
+		Arrays.fill(heights, index, index + count, Double.NaN);
+		size += count;
+		rebuild();
+	}
+
+	/**
+	 * Removes the given number of items starting from the given index.
+	 */
+	public void remove(int index, int count) {
+		checkIndex(index, size + 1);
+		checkIndex(index + count, size + 1);
+		if (count <= 0) return;
+		for (int i = index; i < index + count; i++) {
+			if (Double.isNaN(heights[i])) continue;
+			measuredSum -= heights[i];
+			measuredCount--;
+		}
+		if (index + count == size) {
+			// The nodes of the remaining items only cover the remaining items
+			Arrays.fill(heights, index, size, Double.NaN);
+			size = index;
+			return;
+		}
+
+		System.arraycopy(heights, index + count, heights, index, size - index - count);
+		Arrays.fill(heights, size - count, size, Double.NaN);
+		size -= count;
+		rebuild();
+	}
+
+	/**
+	 * Removes all the items, then adds the given number of unmeasured items.
+	 */
+	public void reset(int size) {
+		ensureCapacity(size);
+		this.size = size;
+		invalidateAll();
+	}
+
+	/**
+	 * @return the sum of the heights of all the items
+	 */
+	public double getTotalHeight() {
+		return measuredSum + (size - measuredCount) * estimatedHeight;
+	}
+
+	/**
+	 * @return the average height of the measured items, or the estimated height if none has been measured
+	 */
+	public double getAverageHeight() {
+		return measuredCount > 0 ? measuredSum / measuredCount : estimatedHeight;
+	}
+
+	/**
+	 * Adds the given deltas to the nodes covering the given index.
+	 */
+	private void update(int index, double delta, int countDelta) {
+		for (int i = index + 1; i <= size; i += i & -i) {
+			heightsTree[i] += delta;
+			countsTree[i] += countDelta;
+		}
+	}
+
+	/**
+	 * Computes the node of the given position, the last one, from the nodes before it.
+	 */
+	private void initNode(int node) {
+		double height = heights[node - 1];
+		boolean measured = !Double.isNaN(height);
+		double sum = measured ? height : 0;
+		int count = measured ? 1 : 0;
+		int stop = node - (node & -node);
+		for (int i = node - 1; i > stop; i -= i & -i) {
+			sum += heightsTree[i];
+			count += countsTree[i];
+		}
+		heightsTree[node] = sum;
+		countsTree[node] = count;
+	}
+
+	/**
+	 * Builds the trees from the heights in O(n).
+	 */
+	private void rebuild() {
+		Arrays.fill(heightsTree, 0);
+		Arrays.fill(countsTree, 0);
+		for (int node = 1; node <= size; node++) {
+			double height = heights[node - 1];
+			if (!Double.isNaN(height)) {
+				heightsTree[node] += height;
+				countsTree[node]++;
+			}
+			int parent = node + (node & -node);
+			if (parent <= size) {
+				heightsTree[parent] += heightsTree[node];
+				countsTree[parent] += countsTree[node];
+			}
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= heights.length) return;
+		int newCapacity = Math.max(capacity, heights.length * 2);
+		int oldCapacity = heights.length;
+		heights = Arrays.copyOf(heights, newCapacity);
+		Arrays.fill(heights, oldCapacity, newCapacity, Double.NaN);
+		heightsTree = Arrays.copyOf(heightsTree, newCapacity + 1);
+		countsTree = Arrays.copyOf(countsTree, newCapacity + 1);
+	}
+
+	private void checkIndex(int index, int bound) {
+		if (index < 0 || index >= bound) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public int size() {
+		return size;
+	}
+
+	public double getEstimatedHeight() {
+		return estimatedHeight;
+	}
+
+	/**
+	 * Sets the height of the unmeasured items.
+	 */
+	public void setEstimatedHeight(double estimatedHeight) {
+		this.estimatedHeight = estimatedHeight;
+	}
+}
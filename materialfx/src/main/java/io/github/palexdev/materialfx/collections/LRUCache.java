@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Simple thread safe cache which holds at most {@link #getCapacity()} entries, when
+ * full the least recently used entry is evicted.
+ * <p>
+ * Backed by a {@link LinkedHashMap} in access order, every method is synchronized.
+ */
+public class LRUCache<K, V> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Map<K, V> map;
+	private int capacity;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public LRUCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be greater than 0!");
+		}
+		this.capacity = capacity;
+		this.map = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > LRUCache.this.capacity;
+			}
+		};
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the value mapped to the given key, marking it as the most recently used,
+	 * or null if the key is not cached
+	 */
+	public synchronized V get(K key) {
+		return map.get(key);
+	}
+
+	/**
+	 * @return the value mapped to the given key, marking it as the most recently used,
+	 * or the given default value if the key is not cached. Allows to distinguish cached null values.
+	 */
+	public synchronized V getOrDefault(K key, V defaultValue) {
+		return map.getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Caches the given value, evicting the least recently used entry if the cache is full.
+	 *
+	 * @return the previous value mapped to the given key
+	 */
+	public synchronized V put(K key, V value) {
+		return map.put(key, value);
+	}
+
+	/**
+	 * @return true if the given key is cached, this doesn't affect the access order
+	 */
+	public synchronized boolean containsKey(K key) {
+		return map.containsKey(key);
+	}
+
+	/**
+	 * Removes the given key from the cache.
+	 *
+	 * @return the value mapped to the key
+	 */
+	public synchronized V remove(K key) {
+		return map.remove(key);
+	}
+
+	/**
+	 * Removes all the entries.
+	 */
+	public synchronized void clear() {
+		map.clear();
+	}
+
+	/**
+	 * @return the number of cached entries
+	 */
+	public synchronized int size() {
+		return map.size();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the max number of entries
+	 */
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the max number of entries, evicting the least recently used ones if needed.
+	 *
+	 * @throws IllegalArgumentException if the given capacity is not greater than 0
+	 */
+	public synchronized void setCapacity(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be greater than 0!");
+		}
+		this.capacity = capacity;
+		Iterator<K> iterator = map.keySet().iterator();
+		while (map.size() > capacity && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+}
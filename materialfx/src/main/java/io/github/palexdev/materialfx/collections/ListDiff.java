@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import javafx.collections.ObservableList;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The edit script which turns a list into another, computed by {@link #compute(List, List, Function)}
+ * and applied by {@link #applyTo(List)}.
+ * <p>
+ * Items are matched by a key (by default the items themselves, compared by {@link Object#equals(Object)}).
+ * The common prefix and suffix are skipped, then the matched items in between which are in the same relative
+ * order (the longest increasing subsequence of their old indexes) stay where they are, and the others are removed
+ * and added (moved). Matched items which are not the same instance are replaced. The script is made of
+ * range operations, see {@link Operation}, so applying it to an {@link ObservableList} fires a change
+ * for each range rather than for each item, and the unchanged items are not touched.
+ * <p>
+ * The computation costs O(n) for the prefix and suffix and O(m log m) for the m items in between.
+ *
+ * @param <T> the items' type
+ */
+public class ListDiff<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<Operation<T>> operations;
+	private final int[] newIndexes;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private ListDiff(List<Operation<T>> operations, int[] newIndexes) {
+		this.operations = Collections.unmodifiableList(operations);
+		this.newIndexes = newIndexes;
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Computes the edit script from the old items to the new items, matching the items by equality.
+	 */
+	public static <T> ListDiff<T> compute(List<? extends T> oldItems, List<? extends T> newItems) {
+		return compute(oldItems, newItems, null);
+	}
+
+	/**
+	 * Computes the edit script from the old items to the new items, matching the items by the keys
+	 * extracted by the given function. Items with equal keys are matched in order.
+	 *
+	 * @param keyExtractor the function extracting the keys, null to use the items as keys
+	 */
+	public static <T> ListDiff<T> compute(List<? extends T> oldItems, List<? extends T> newItems, Function<? super T, ?> keyExtractor) {
+		Function<? super T, ?> key = keyExtractor != null ? keyExtractor : item -> item;
+		int oldSize = oldItems.size();
+		int newSize = newItems.size();
+		int[] newIndexes = new int[oldSize];
+		boolean[] stays = new boolean[oldSize];
+		Arrays.fill(newIndexes, -1);
+
+		int prefix = 0;
+		while (prefix < oldSize && prefix < newSize && Objects.equals(key.apply(oldItems.get(prefix)), key.apply(newItems.get(prefix)))) {
+			newIndexes[prefix] = prefix;
+			stays[prefix] = true;
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < oldSize - prefix && suffix < newSize - prefix &&
+				Objects.equals(key.apply(oldItems.get(oldSize - 1 - suffix)), key.apply(newItems.get(newSize - 1 - suffix)))) {
+			newIndexes[oldSize - 1 - suffix] = newSize - 1 - suffix;
+			stays[oldSize - 1 - suffix] = true;
+			suffix++;
+		}
+		int oldEnd = oldSize - suffix;
+		int newEnd = newSize - suffix;
+
+		Map<Object, Deque<Integer>> oldIndexesByKey = new HashMap<>();
+		for (int i = prefix; i < oldEnd; i++) {
+			oldIndexesByKey.computeIfAbsent(key.apply(oldItems.get(i)), k -> new ArrayDeque<>()).add(i);
+		}
+		int[] matched = new int[newEnd - prefix];
+		for (int j = 0; j < matched.length; j++) {
+			Deque<Integer> indexes = oldIndexesByKey.get(key.apply(newItems.get(prefix + j)));
+			matched[j] = (indexes == null || indexes.isEmpty()) ? -1 : indexes.poll();
+			if (matched[j] != -1) newIndexes[matched[j]] = prefix + j;
+		}
+		boolean[] kept = longestIncreasing(matched);
+		for (int j = 0; j < matched.length; j++) {
+			if (kept[j]) stays[matched[j]] = true;
+		}
+
+		List<Operation<T>> operations = new ArrayList<>();
+
+		// Removals from the last, so that the indexes of the previous ones are still valid
+		int i = oldEnd - 1;
+		while (i >= prefix) {
+			if (stays[i]) {
+				i--;
+				continue;
+			}
+			int to = i + 1;
+			while (i >= prefix && !stays[i]) i--;
+			operations.add(new Operation<>(Operation.Type.REMOVE, i + 1, to - i - 1, Collections.emptyList()));
+		}
+
+		// Additions from the first, the kept items are already in the right relative order
+		int j = 0;
+		while (j < matched.length) {
+			if (kept[j]) {
+				j++;
+				continue;
+			}
+			int from = j;
+			while (j < matched.length && !kept[j]) j++;
+			List<T> added = new ArrayList<>(newItems.subList(prefix + from, prefix + j));
+			operations.add(new Operation<>(Operation.Type.ADD, prefix + from, added.size(), added));
+		}
+
+		// Replacements of the items which stay but are a different instance
+		List<T> replaced = new ArrayList<>();
+		int replacedFrom = -1;
+		for (int k = 0; k <= oldSize; k++) {
+			int index = k < oldSize && stays[k] && oldItems.get(k) != newItems.get(newIndexes[k]) ? newIndexes[k] : -1;
+			if (index != -1 && (replaced.isEmpty() || index == replacedFrom + replaced.size())) {
+				if (replaced.isEmpty()) replacedFrom = index;
+				replaced.add(newItems.get(index));
+				continue;
+			}
+			if (!replaced.isEmpty()) {
+				operations.add(new Operation<>(Operation.Type.REPLACE, replacedFrom, replaced.size(), replaced));
+				replaced = new ArrayList<>();
+			}
+			if (index != -1) {
+				replacedFrom = index;
+				replaced.add(newItems.get(index));
+			}
+		}
+		return new ListDiff<>(operations, newIndexes);
+	}
+
+	/**
+	 * Finds the longest increasing subsequence of the given values, ignoring negative values,
+	 * with patience sorting.
+	 *
+	 * @return for each value whether it's part of the subsequence
+	 */
+	private static boolean[] longestIncreasing(int[] values) {
+		int[] tails = new int[values.length];
+		int[] previous = new int[values.length];
+		int length = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] < 0) continue;
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (values[tails[mid]] < values[i]) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			previous[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) length++;
+		}
+
+		boolean[] result = new boolean[values.length];
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+			result[i] = true;
+		}
+		return result;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Applies the operations to the given list, which must contain the old items.
+	 * <p>
+	 * Removals of {@link ObservableList}s are made with {@link ObservableList#remove(int, int)}.
+	 */
+	public void applyTo(List<T> list) {
+		for (Operation<T> operation : operations) {
+			int index = operation.getIndex();
+			switch (operation.getType()) {
+				case REMOVE: {
+					if (list instanceof ObservableList) {
+						((ObservableList<T>) list).remove(index, index + operation.getCount());
+					} else {
+						list.subList(index, index + operation.getCount()).clear();
+					}
+					break;
+				}
+				case ADD: {
+					list.addAll(index, operation.getItems());
+					break;
+				}
+				case REPLACE: {
+					List<T> items = operation.getItems();
+					for (int i = 0; i < items.size(); i++) {
+						list.set(index + i, items.get(i));
+					}
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the index in the new items of the item at the given index in the old items, -1 if it has been removed.
+	 * Items which are moved or replaced by an item with the same key are not considered removed
+	 */
+	public int getNewIndex(int oldIndex) {
+		return newIndexes[oldIndex];
+	}
+
+	/**
+	 * @return whether the old and new items are the same
+	 */
+	public boolean isEmpty() {
+		return operations.isEmpty();
+	}
+
+	/**
+	 * @return the operations to apply in order
+	 */
+	public List<Operation<T>> getOperations() {
+		return operations;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * An operation of the edit script, a range of items to remove, add or replace starting from an index.
+	 * <p>
+	 * Each operation's index is valid after applying the previous operations.
+	 */
+	public static class Operation<T> {
+		private final Type type;
+		private final int index;
+		private final int count;
+		private final List<T> items;
+
+		public Operation(Type type, int index, int count, List<T> items) {
+			this.type = type;
+			this.index = index;
+			this.count = count;
+			this.items = Collections.unmodifiableList(items);
+		}
+
+		public Type getType() {
+			return type;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return the number of removed, added or replaced items
+		 */
+		public int getCount() {
+			return count;
+		}
+
+		/**
+		 * @return the added or replacing items, empty for removals
+		 */
+		public List<T> getItems() {
+			return items;
+		}
+
+		@Override
+		public String toString() {
+			return type + "@" + index + ":" + count;
+		}
+
+		public enum Type {
+			REMOVE, ADD, REPLACE
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import io.github.palexdev.materialfx.controls.MFXPaginatedTableView;
+
+import java.util.List;
+
+/**
+ * A source of data which is loaded a page at a time, for datasets too big to be kept in memory,
+ * for example the rows of a database table.
+ * <p>
+ * Both methods are called on a background thread by the {@link MFXPaginatedTableView}, so they can block
+ * but must not access the scene graph.
+ *
+ * @param <T> the type of the items
+ * @see MFXPaginatedTableView#pageProviderProperty()
+ */
+public interface PageProvider<T> {
+
+	/**
+	 * @return the total number of items
+	 */
+	long count();
+
+	/**
+	 * Loads the items from the given offset, at most the given number of them.
+	 *
+	 * @param offset the index of the first item to load
+	 * @param size   the max number of items to load, less items are expected only for the last page
+	 */
+	List<T> loadPage(long offset, int size);
+}
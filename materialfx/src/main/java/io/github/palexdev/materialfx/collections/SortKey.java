@@ -0,0 +1,435 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.collections;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * A {@code SortKey} is a special {@link Comparator} which compares items by a key extracted from them.
+ * <p>
+ * Used as the comparator of a {@link TransformableList}, it allows the list to extract the key only once per item,
+ * store the keys in an array (primitive for {@link #ofInt(ToIntFunction)}, {@link #ofLong(ToLongFunction)} and {@link #ofDouble(ToDoubleFunction)}),
+ * and sort by comparing the stored keys. This way the extractor is invoked n times per sort instead of n log n times,
+ * which makes a big difference for expensive extractors, computed values or formatted dates for example.
+ * <p>
+ * The extracted keys are cached by the list, so {@link #reversed()}, which shares the extractor, allows to
+ * reverse the order without extracting the keys again. The keys are reused only for that, any other sort extracts them
+ * again, and they are discarded as soon as the source list changes. Items mutated in place without the source list
+ * reporting it require {@link TransformableList#invalidateKeys()}.
+ * <p>
+ * When used as a plain {@link Comparator} the keys are extracted at each comparison, this is still used
+ * by the {@link TransformableList} to place a few items incrementally.
+ * <p>
+ * Null keys are considered smaller than non-null keys.
+ *
+ * @param <T> the items' type
+ */
+public abstract class SortKey<T> implements Comparator<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	protected final boolean descending;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	protected SortKey(boolean descending) {
+		this.descending = descending;
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Builds a new {@code SortKey} which sorts items by the {@link Comparable} key extracted by the given function.
+	 */
+	public static <T, U extends Comparable<? super U>> SortKey<T> of(Function<? super T, ? extends U> extractor) {
+		return new ComparableSortKey<>(extractor, false);
+	}
+
+	/**
+	 * Builds a new {@code SortKey} which sorts items by the int key extracted by the given function.
+	 * <p>
+	 * Keys are stored in a primitive array.
+	 */
+	public static <T> SortKey<T> ofInt(ToIntFunction<? super T> extractor) {
+		return new IntSortKey<>(extractor, false);
+	}
+
+	/**
+	 * Builds a new {@code SortKey} which sorts items by the long key extracted by the given function.
+	 * <p>
+	 * Keys are stored in a primitive array.
+	 */
+	public static <T> SortKey<T> ofLong(ToLongFunction<? super T> extractor) {
+		return new LongSortKey<>(extractor, false);
+	}
+
+	/**
+	 * Builds a new {@code SortKey} which sorts items by the double key extracted by the given function.
+	 * <p>
+	 * Keys are stored in a primitive array.
+	 */
+	public static <T> SortKey<T> ofDouble(ToDoubleFunction<? super T> extractor) {
+		return new DoubleSortKey<>(extractor, false);
+	}
+
+	/**
+	 * Convenience method for {@link #composite(List)}.
+	 */
+	@SafeVarargs
+	public static <T> SortKey<T> composite(Comparator<? super T>... comparators) {
+		List<Comparator<? super T>> list = new ArrayList<>(comparators.length);
+		for (Comparator<? super T> comparator : comparators) {
+			list.add(comparator);
+		}
+		return new CompositeSortKey<>(list, false);
+	}
+
+	/**
+	 * Builds a new {@code SortKey} which sorts items by the given comparators in order, each comparator is used only
+	 * for the items which are equal for the previous ones, e.g. by desk, then by symbol, then by time.
+	 * <p>
+	 * The keys of the comparators which are {@code SortKey}s are extracted only once per item each, so sorting by k keys
+	 * costs k * n extractions. They are cached as the keys of any other {@code SortKey}, so only reversing the composite key,
+	 * {@link #reversed()}, does not extract them again. Other comparators are invoked at each comparison.
+	 */
+	public static <T> SortKey<T> composite(List<? extends Comparator<? super T>> comparators) {
+		return new CompositeSortKey<>(new ArrayList<>(comparators), false);
+	}
+
+	//================================================================================
+	// Abstract Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to return a {@code SortKey} which shares the same extractor, so that
+	 * already extracted keys can be reused.
+	 */
+	@Override
+	public abstract SortKey<T> reversed();
+
+	/**
+	 * @return the function used to extract the keys
+	 */
+	public abstract Object getExtractor();
+
+	/**
+	 * Extracts the keys of the items at the given indexes of the given source (if not already present in the cache)
+	 * and builds an {@link IntBinaryOperator} which compares two source indexes by their stored keys.
+	 * Unlike {@link #indexComparator(List, int[], KeyCache, int, boolean, Runnable)}, ties are not resolved.
+	 */
+	abstract IntBinaryOperator keysComparator(List<? extends T> source, int[] indexes, KeyCache cache, int modCount, boolean parallel, Runnable checkpoint);
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Builds an {@link IntBinaryOperator} which compares two source indexes by their stored keys,
+	 * see {@link #keysComparator(List, int[], KeyCache, int, boolean, Runnable)}.
+	 * Ties are resolved by the indexes, so that the order is the same as a stable sort.
+	 */
+	IntBinaryOperator indexComparator(List<? extends T> source, int[] indexes, KeyCache cache, int modCount, boolean parallel, Runnable checkpoint) {
+		IntBinaryOperator comparator = keysComparator(source, indexes, cache, modCount, parallel, checkpoint);
+		return (i1, i2) -> {
+			int res = comparator.applyAsInt(i1, i2);
+			return res != 0 ? res : Integer.compare(i1, i2);
+		};
+	}
+
+	/**
+	 * @return whether this key sorts in descending order
+	 */
+	public boolean isDescending() {
+		return descending;
+	}
+
+	/**
+	 * @return whether the given comparator is the reverse of this key, a {@code SortKey} with the same extractor
+	 * and the opposite order, see {@link #reversed()}
+	 */
+	boolean isReverseOf(Comparator<?> comparator) {
+		if (!(comparator instanceof SortKey)) return false;
+		SortKey<?> other = (SortKey<?>) comparator;
+		return other.getExtractor() == getExtractor() && other.descending != descending;
+	}
+
+	/**
+	 * Extracts the keys for the given indexes, if not already extracted, by calling the given extractor.
+	 * The extraction is performed in parallel if the parallel flag is true.
+	 */
+	protected void extract(KeyCache cache, int[] indexes, boolean parallel, Runnable checkpoint, IndexExtractor extractor) {
+		boolean[] extracted = cache.extracted;
+		IntStream stream = IntStream.of(indexes);
+		if (parallel) stream = stream.parallel();
+		stream.filter(index -> !extracted[index]).forEach(index -> {
+			checkpoint.run();
+			extractor.extract(index);
+			extracted[index] = true;
+		});
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Functional interface to extract and store the key of the item at the given index.
+	 */
+	@FunctionalInterface
+	protected interface IndexExtractor {
+		void extract(int index);
+	}
+
+	/**
+	 * Holds the keys extracted by a {@code SortKey}, indexed by the source index.
+	 * <p>
+	 * The keys are valid only for the extractor and the state of the source (expressed by a modification count)
+	 * for which they were extracted, see {@link #prepare(Object, int, int, Function)}.
+	 */
+	static class KeyCache {
+		private Object extractor;
+		private int modCount;
+		private Object keys;
+		private boolean[] extracted;
+
+		/**
+		 * Makes sure the cache is valid for the given extractor, modification count and source size,
+		 * if it's not, the cache is reset and new arrays are allocated with the given factory.
+		 */
+		Object prepare(Object extractor, int modCount, int size, Function<Integer, Object> keysFactory) {
+			if (this.extractor != extractor || this.modCount != modCount || extracted == null || extracted.length != size) {
+				this.extractor = extractor;
+				this.modCount = modCount;
+				this.keys = keysFactory.apply(size);
+				this.extracted = new boolean[size];
+			}
+			return keys;
+		}
+	}
+
+	private static class CompositeSortKey<T> extends SortKey<T> {
+		private final List<Comparator<? super T>> comparators;
+
+		public CompositeSortKey(List<Comparator<? super T>> comparators, boolean descending) {
+			super(descending);
+			this.comparators = Collections.unmodifiableList(comparators);
+		}
+
+		@Override
+		public int compare(T o1, T o2) {
+			for (Comparator<? super T> comparator : comparators) {
+				int res = descending ? comparator.compare(o2, o1) : comparator.compare(o1, o2);
+				if (res != 0) return res;
+			}
+			return 0;
+		}
+
+		@Override
+		public SortKey<T> reversed() {
+			return new CompositeSortKey<>(comparators, !descending);
+		}
+
+		/**
+		 * @return the list of comparators
+		 */
+		@Override
+		public Object getExtractor() {
+			return comparators;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		IntBinaryOperator keysComparator(List<? extends T> source, int[] indexes, KeyCache cache, int modCount, boolean parallel, Runnable checkpoint) {
+			// The keys of each SortKey are stored in a separate cache, by extractor. The caches are valid only for
+			// this list of comparators, shared with the reversed key
+			Map<Object, KeyCache> caches = (Map<Object, KeyCache>) cache.prepare(comparators, modCount, source.size(), size -> new HashMap<>());
+			IntBinaryOperator[] keysComparators = new IntBinaryOperator[comparators.size()];
+			for (int i = 0; i < keysComparators.length; i++) {
+				Comparator<? super T> comparator = comparators.get(i);
+				if (comparator instanceof SortKey) {
+					SortKey<T> key = (SortKey<T>) comparator;
+					KeyCache keyCache = caches.computeIfAbsent(key.getExtractor(), extractor -> new KeyCache());
+					keysComparators[i] = key.keysComparator(source, indexes, keyCache, modCount, parallel, checkpoint);
+				} else {
+					keysComparators[i] = (i1, i2) -> comparator.compare(source.get(i1), source.get(i2));
+				}
+			}
+			return (i1, i2) -> {
+				for (IntBinaryOperator keysComparator : keysComparators) {
+					int res = descending ? keysComparator.applyAsInt(i2, i1) : keysComparator.applyAsInt(i1, i2);
+					if (res != 0) return res;
+				}
+				return 0;
+			};
+		}
+	}
+
+	private static class ComparableSortKey<T, U extends Comparable<? super U>> extends SortKey<T> {
+		private final Function<? super T, ? extends U> extractor;
+
+		public ComparableSortKey(Function<? super T, ? extends U> extractor, boolean descending) {
+			super(descending);
+			this.extractor = extractor;
+		}
+
+		@Override
+		public int compare(T o1, T o2) {
+			return descending ?
+					compareKeys(extractor.apply(o2), extractor.apply(o1)) :
+					compareKeys(extractor.apply(o1), extractor.apply(o2));
+		}
+
+		@Override
+		public SortKey<T> reversed() {
+			return new ComparableSortKey<>(extractor, !descending);
+		}
+
+		@Override
+		public Object getExtractor() {
+			return extractor;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		IntBinaryOperator keysComparator(List<? extends T> source, int[] indexes, KeyCache cache, int modCount, boolean parallel, Runnable checkpoint) {
+			Object[] keys = (Object[]) cache.prepare(extractor, modCount, source.size(), Object[]::new);
+			extract(cache, indexes, parallel, checkpoint, index -> keys[index] = extractor.apply(source.get(index)));
+			return (i1, i2) -> descending ?
+					compareKeys((U) keys[i2], (U) keys[i1]) :
+					compareKeys((U) keys[i1], (U) keys[i2]);
+		}
+
+		private int compareKeys(U k1, U k2) {
+			if (k1 == k2) return 0;
+			if (k1 == null) return -1;
+			if (k2 == null) return 1;
+			return k1.compareTo(k2);
+		}
+	}
+
+	private static class IntSortKey<T> extends SortKey<T> {
+		private final ToIntFunction<? super T> extractor;
+
+		public IntSortKey(ToIntFunction<? super T> extractor, boolean descending) {
+			super(descending);
+			this.extractor = extractor;
+		}
+
+		@Override
+		public int compare(T o1, T o2) {
+			return descending ?
+					Integer.compare(extractor.applyAsInt(o2), extractor.applyAsInt(o1)) :
+					Integer.compare(extractor.applyAsInt(o1), extractor.applyAsInt(o2));
+		}
+
+		@Override
+		public SortKey<T> reversed() {
+			return new IntSortKey<>(extractor, !descending);
+		}
+
+		@Override
+		public Object getExtractor() {
+			return extractor;
+		}
+
+		@Override
+		IntBinaryOperator keysComparator(List<? extends T> source, int[] indexes, KeyCache cache, int modCount, boolean parallel, Runnable checkpoint) {
+			int[] keys = (int[]) cache.prepare(extractor, modCount, source.size(), int[]::new);
+			extract(cache, indexes, parallel, checkpoint, index -> keys[index] = extractor.applyAsInt(source.get(index)));
+			return (i1, i2) -> descending ? Integer.compare(keys[i2], keys[i1]) : Integer.compare(keys[i1], keys[i2]);
+		}
+	}
+
+	private static class LongSortKey<T> extends SortKey<T> {
+		private final ToLongFunction<? super T> extractor;
+
+		public LongSortKey(ToLongFunction<? super T> extractor, boolean descending) {
+			super(descending);
+			this.extractor = extractor;
+		}
+
+		@Override
+		public int compare(T o1, T o2) {
+			return descending ?
+					Long.compare(extractor.applyAsLong(o2), extractor.applyAsLong(o1)) :
+					Long.compare(extractor.applyAsLong(o1), extractor.applyAsLong(o2));
+		}
+
+		@Override
+		public SortKey<T> reversed() {
+			return new LongSortKey<>(extractor, !descending);
+		}
+
+		@Override
+		public Object getExtractor() {
+			return extractor;
+		}
+
+		@Override
+		IntBinaryOperator keysComparator(List<? extends T> source, int[] indexes, KeyCache cache, int modCount, boolean parallel, Runnable checkpoint) {
+			long[] keys = (long[]) cache.prepare(extractor, modCount, source.size(), long[]::new);
+			extract(cache, indexes, parallel, checkpoint, index -> keys[index] = extractor.applyAsLong(source.get(index)));
+			return (i1, i2) -> descending ? Long.compare(keys[i2], keys[i1]) : Long.compare(keys[i1], keys[i2]);
+		}
+	}
+
+	private static class DoubleSortKey<T> extends SortKey<T> {
+		private final ToDoubleFunction<? super T> extractor;
+
+		public DoubleSortKey(ToDoubleFunction<? super T> extractor, boolean descending) {
+			super(descending);
+			this.extractor = extractor;
+		}
+
+		@Override
+		public int compare(T o1, T o2) {
+			return descending ?
+					Double.compare(extractor.applyAsDouble(o2), extractor.applyAsDouble(o1)) :
+					Double.compare(extractor.applyAsDouble(o1), extractor.applyAsDouble(o2));
+		}
+
+		@Override
+		public SortKey<T> reversed() {
+			return new DoubleSortKey<>(extractor, !descending);
+		}
+
+		@Override
+		public Object getExtractor() {
+			return extractor;
+		}
+
+		@Override
+		IntBinaryOperator keysComparator(List<? extends T> source, int[] indexes, KeyCache cache, int modCount, boolean parallel, Runnable checkpoint) {
+			double[] keys = (double[]) cache.prepare(extractor, modCount, source.size(), double[]::new);
+			extract(cache, indexes, parallel, checkpoint, index -> keys[index] = extractor.applyAsDouble(source.get(index)));
+			return (i1, i2) -> descending ? Double.compare(keys[i2], keys[i1]) : Double.compare(keys[i1], keys[i2]);
+		}
+	}
+}
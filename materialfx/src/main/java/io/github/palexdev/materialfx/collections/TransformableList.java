@@ -21,6 +21,9 @@
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.PredicateProperty;
 import io.github.palexdev.materialfx.collections.NonIterableChange.GenericAddRemoveChange;
+import io.github.palexdev.materialfx.enums.Refinement;
+import javafx.application.Platform;
+import javafx.beans.property.*;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -28,8 +31,8 @@
 import javafx.collections.transformation.TransformationList;
 
 import java.util.*;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.*;
+import java.util.function.*;
 import java.util.stream.IntStream;
 
 /**
@@ -67,11 +70,22 @@
  * }
  * </pre>
  * <p>
- * Check {@link #computeIndexes()} documentation to see how indexes are calculated.
+ * Check {@link IndexesComputation#computeIndexes()} documentation to see how indexes are calculated.
  * <p></p>
- * <b>IMPORTANT:</b> If using a reversed comparator please use {@link #setComparator(Comparator, boolean)} with 'true' as argument,
- * as {@link #setComparator(Comparator)} will always assume it is a natural order comparator. This is needed to make {@link #sourceToView(int)}
- * properly work as it uses a binary search algorithm to find the right index.
+ * The mapping is stored in two primitive arrays, one maps view indexes to source indexes and the other one
+ * maps source indexes to view indexes (-1 if the item is filtered out). Both {@link #viewToSource(int)} and
+ * {@link #sourceToView(int)} are O(1) and do not allocate, regardless of the comparator being used.
+ * <p></p>
+ * For big sources the list can also filter and sort in parallel on the common {@link ForkJoinPool},
+ * see {@link #parallelProperty()} and {@link #parallelThresholdProperty()}.
+ * <p>
+ * Alternatively, the list can compute the indexes off the JavaFX thread when the predicate or the comparator change,
+ * see {@link #asyncProperty()}.
+ * <p>
+ * When the relation between the new predicate and the current one is known, {@link #setPredicate(Predicate, Refinement)}
+ * allows to test only the items in the view (narrowing) or only the excluded ones (widening).
+ * <p>
+ * Bursts of mutations can be coalesced into a single change, see {@link #beginBatch()}.
  *
  * @param <T> the items' type
  */
@@ -79,23 +93,68 @@
 	//================================================================================
 	// Constructors
 	//================================================================================
-	private final List<Integer> indexes = new ArrayList<>();
+	private static final int[] EMPTY = new int[0];
+	private int[] viewToSource = EMPTY;
+	private int[] sourceToView = EMPTY;
 	private boolean reversed = false;
 
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+	private static final int PARALLEL_SORT_GRANULARITY = 8192;
+	private final BooleanProperty parallel = new SimpleBooleanProperty(false);
+	private final IntegerProperty parallelThreshold = new SimpleIntegerProperty(DEFAULT_PARALLEL_THRESHOLD);
+
+	public static final double DEFAULT_INSERTION_THRESHOLD = 0.5;
+	private final DoubleProperty insertionThreshold = new SimpleDoubleProperty(DEFAULT_INSERTION_THRESHOLD);
+
+	private static final Executor DEFAULT_ASYNC_EXECUTOR;
+	private final BooleanProperty async = new SimpleBooleanProperty(false);
+	private final ObjectProperty<Executor> asyncExecutor = new SimpleObjectProperty<>(DEFAULT_ASYNC_EXECUTOR);
+	private final ReadOnlyBooleanWrapper computing = new ReadOnlyBooleanWrapper(false);
+	private final ReadOnlyObjectWrapper<Throwable> computationException = new ReadOnlyObjectWrapper<>();
+	private IndexesComputation currentComputation;
+	private int sourceModCount = 0;
+
+	private Predicate<? super T> appliedPredicate;
+	private Comparator<? super T> appliedComparator;
+	private Refinement refinement = Refinement.NONE;
+	private SortKey.KeyCache keyCache;
+
+	private int batchDepth = 0;
+	private boolean batchDirty = false;
+	private List<T> batchSnapshot;
+
 	private final PredicateProperty<T> predicate = new PredicateProperty<>() {
 		@Override
 		protected void invalidated() {
-			update();
+			transformationChanged();
 		}
 	};
 
 	private final ComparatorProperty<T> comparator = new ComparatorProperty<>() {
 		@Override
 		protected void invalidated() {
-			update();
+			transformationChanged();
 		}
 	};
 
+	static {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				1,
+				2,
+				5,
+				TimeUnit.SECONDS,
+				new LinkedBlockingDeque<>(),
+				runnable -> {
+					Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+					thread.setName("MFXTransformableListThread");
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut(true);
+		DEFAULT_ASYNC_EXECUTOR = executor;
+	}
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -136,42 +195,753 @@ public int sourceToView(int index) {
 		return getViewIndex(index);
 	}
 
+	/**
+	 * Begins a batch of changes.
+	 * <p>
+	 * Until the batch ends, {@link #endBatch()}, changes of the source list, the predicate and the comparator are not
+	 * processed and no change is fired. Meanwhile, the list keeps exposing the items it had when the batch began
+	 * ({@link #viewToSource(int)} and {@link #sourceToView(int)} are not updated either).
+	 * <p>
+	 * Batches can be nested, the changes are processed only when the outermost batch ends.
+	 * <p>
+	 * Useful to apply a burst of mutations, for example thousands of updates coming from a message bus,
+	 * without processing and firing each of them.
+	 *
+	 * @see #runBatch(Runnable)
+	 */
+	public void beginBatch() {
+		if (batchDepth++ == 0) {
+			// A pending computation is superseded by the one at the end of the batch
+			batchDirty = currentComputation != null;
+			cancelComputation();
+			batchSnapshot = new ArrayList<>(this);
+		}
+	}
+
+	/**
+	 * Ends a batch of changes begun with {@link #beginBatch()}.
+	 * <p>
+	 * When the outermost batch ends, if anything changed in the meantime, the indexes are computed again
+	 * and a single change is fired. The computation is synchronous even if {@link #asyncProperty()} is true: the source
+	 * changes made during the batch have not been processed, so the current indexes can't be kept while computing
+	 * in background. A pending asynchronous computation is cancelled, since this brings the list up-to-date. The change only covers
+	 * the range of the view between the first and the last item that differ from the ones the list had when the batch began.
+	 * If instead the items were shifted, some removed from the head and some added to the tail, the change is made of
+	 * just those removal and addition.
+	 *
+	 * @throws IllegalStateException if no batch is open
+	 */
+	public void endBatch() {
+		if (batchDepth == 0) throw new IllegalStateException("No batch to end");
+		if (--batchDepth > 0) return;
+
+		List<T> oldItems = batchSnapshot;
+		batchSnapshot = null;
+		if (!batchDirty) return;
+		batchDirty = false;
+
+		cancelComputation();
+		computing.set(false);
+		IndexesComputation computation = new IndexesComputation(getSource(), keyCache != null ? keyCache : new SortKey.KeyCache());
+		setComputation(computation, computation.computeIndexes());
+		if (!this.hasListeners()) return;
+
+		int oldSize = oldItems.size();
+		int newSize = size();
+		int min = Math.min(oldSize, newSize);
+		int prefix = 0;
+		while (prefix < min && oldItems.get(prefix) == get(prefix)) prefix++;
+		int suffix = 0;
+		while (suffix < min - prefix && oldItems.get(oldSize - 1 - suffix) == get(newSize - 1 - suffix)) suffix++;
+		if (prefix == oldSize && prefix == newSize) return;
+
+		if (prefix == 0 && newSize > 0) {
+			// Sliding window, items removed from the head and added to the tail (e.g. a bounded log)
+			T first = get(0);
+			int head = 0;
+			while (head < oldSize && oldItems.get(head) != first) head++;
+			int kept = 0;
+			while (head + kept < oldSize && kept < newSize && oldItems.get(head + kept) == get(kept)) kept++;
+			if (head > 0 && kept > 0 && head + kept == oldSize) {
+				beginChange();
+				nextRemove(0, new ArrayList<>(oldItems.subList(0, head)));
+				if (kept < newSize) nextAdd(kept, newSize);
+				endChange();
+				return;
+			}
+		}
+
+		List<T> removed = new ArrayList<>(oldItems.subList(prefix, oldSize - suffix));
+		this.fireChange(new GenericAddRemoveChange<>(prefix, newSize - suffix, removed, this));
+	}
+
+	/**
+	 * Runs the given action in a batch, {@link #beginBatch()} and {@link #endBatch()}.
+	 */
+	public void runBatch(Runnable action) {
+		beginBatch();
+		try {
+			action.run();
+		} finally {
+			endBatch();
+		}
+	}
+
+	/**
+	 * @return whether a batch is open
+	 * @see #beginBatch()
+	 */
+	public boolean isBatching() {
+		return batchDepth > 0;
+	}
+
+	/**
+	 * Called when the predicate or the comparator change.
+	 * <p>
+	 * If the predicate has been set with a {@link Refinement} and no asynchronous computation is pending,
+	 * calls {@link #refine(Refinement)}. Otherwise calls {@link #computeAsync()} if {@link #asyncProperty()} is true,
+	 * or {@link #update()}.
+	 */
+	private void transformationChanged() {
+		Refinement refinement = this.refinement;
+		this.refinement = Refinement.NONE;
+		if (!isReversal()) invalidateKeys();
+		if (batchDepth > 0) {
+			batchDirty = true;
+		} else if (refinement != Refinement.NONE && currentComputation == null && appliedComparator == getComparator()) {
+			refine(refinement);
+		} else if (isAsync()) {
+			computeAsync();
+		} else {
+			update();
+		}
+	}
+
+	/**
+	 * @return whether the only change since the last computation is the comparator being reversed, in which case
+	 * the keys cached by that computation can be reused, see {@link SortKey#isReverseOf(Comparator)}
+	 */
+	private boolean isReversal() {
+		Comparator<T> sorter = getComparator();
+		return getPredicate() == appliedPredicate && sorter instanceof SortKey && ((SortKey<T>) sorter).isReverseOf(appliedComparator);
+	}
+
+	/**
+	 * Discards the keys extracted by the last sort, see {@link SortKey}.
+	 * <p>
+	 * The keys are reused only to reverse the order, and they are discarded as soon as the source list changes, updates
+	 * included. So this must be called only when the items are mutated in place without the source list reporting it,
+	 * for example a list without an extractor, otherwise reversing the order would compare the old keys.
+	 */
+	public void invalidateKeys() {
+		keyCache = null;
+		if (currentComputation != null) currentComputation.keysValid = false;
+	}
+
 	/**
 	 * Responsible for updating the transformed indexes when the
 	 * predicate or the comparator change.
+	 * <p>
+	 * The indexes are computed synchronously on the current thread, any pending asynchronous
+	 * computation is cancelled since this brings the list up-to-date.
 	 */
 	private void update() {
-		indexes.clear();
-		indexes.addAll(computeIndexes());
+		cancelComputation();
+		computing.set(false);
+		IndexesComputation computation = new IndexesComputation(getSource(), keyCache != null ? keyCache : new SortKey.KeyCache());
+		applyComputation(computation, computation.computeIndexes());
+	}
+
+	/**
+	 * Computes the transformed indexes on the {@link #asyncExecutorProperty()}, against a snapshot of the source list.
+	 * <p>
+	 * A pending computation is cancelled as soon as a new one is requested. The result is published on the JavaFX
+	 * thread as a single change, {@link #applyComputation(IndexesComputation, int[])}. If the source list changed
+	 * while computing, the changes are applied on top of the result, so that a source which changes continuously
+	 * doesn't prevent the result from being published.
+	 * <p>
+	 * If the computation fails, the error is exposed by the {@link #computationExceptionProperty()}.
+	 * <p>
+	 * Meanwhile, the list keeps showing (and incrementally updating) the previous transformation, and
+	 * {@link #computingProperty()} is true.
+	 * <p>
+	 * The keys cached by the previous computation are handed over to this one, so that they are not extracted again,
+	 * for example when the order is reversed. The list doesn't keep them meanwhile, so that they are never used by
+	 * two threads at once, they are retained again when the result is applied.
+	 */
+	private void computeAsync() {
+		cancelComputation();
+		SortKey.KeyCache cache = keyCache != null ? keyCache : new SortKey.KeyCache();
+		keyCache = null;
+		IndexesComputation computation = new IndexesComputation(new ArrayList<>(getSource()), cache);
+		currentComputation = computation;
+		computing.set(true);
+
+		Executor executor = getAsyncExecutor() != null ? getAsyncExecutor() : DEFAULT_ASYNC_EXECUTOR;
+		CompletableFuture.supplyAsync(computation::computeIndexes, executor)
+				.whenComplete((indexes, ex) -> Platform.runLater(() -> {
+					if (currentComputation != computation) return;
+					currentComputation = null;
+					if (ex != null) {
+						computationException.set(ex instanceof CompletionException ? ex.getCause() : ex);
+						computing.set(false);
+						return;
+					}
+					applyComputation(computation, indexes);
+					computing.set(false);
+				}));
+	}
+
+	/**
+	 * Applies the new predicate by testing only a part of the source.
+	 * <p>
+	 * For {@link Refinement#NARROWING} only the items currently in the view are tested, the ones that do not pass the
+	 * predicate anymore are removed. For {@link Refinement#WIDENING} only the items currently excluded from the view are
+	 * tested, the ones that now pass the predicate are inserted at their position, see {@link #addIndexes(int[], int, int[], IntBinaryOperator)}.
+	 * <p>
+	 * A null predicate accepts every item, so narrowing to a null predicate is handled as widening.
+	 */
+	private void refine(Refinement refinement) {
+		ObservableList<? extends T> source = getSource();
+		Predicate<? super T> filter = getPredicate();
+		appliedPredicate = filter;
+
+		beginChange();
+		if (refinement == Refinement.NARROWING && filter != null) {
+			int[] kept = new int[viewToSource.length];
+			int keptCount = 0;
+			for (int index : viewToSource) {
+				T item = source.get(index);
+				if (filter.test(item)) {
+					kept[keptCount++] = index;
+				} else {
+					nextRemove(keptCount, item);
+				}
+			}
+			setIndexes(keptCount == kept.length ? kept : Arrays.copyOf(kept, keptCount));
+		} else {
+			int[] toInsert = new int[sourceToView.length - viewToSource.length];
+			int insertCount = 0;
+			for (int i = 0; i < sourceToView.length; i++) {
+				if (sourceToView[i] == -1 && (filter == null || filter.test(source.get(i)))) toInsert[insertCount++] = i;
+			}
+			toInsert = Arrays.copyOf(toInsert, insertCount);
+			setIndexes(addIndexes(viewToSource, viewToSource.length, toInsert, indexComparator(source, appliedComparator)));
+		}
+		endChange();
+	}
+
+	/**
+	 * Cancels the pending asynchronous computation, if any.
+	 */
+	private void cancelComputation() {
+		if (currentComputation != null) {
+			currentComputation.cancel();
+			currentComputation = null;
+		}
+	}
+
+	/**
+	 * Replaces the current indexes with the given ones, computed by the given {@link IndexesComputation},
+	 * and fires a single change which replaces the whole list.
+	 * <p>
+	 * If the comparator is a {@link SortKey}, the keys extracted by the computation are retained, so that
+	 * they can be reused by the next computation if the order is reversed, see {@link #invalidateKeys()}.
+	 * <p>
+	 * If the source changed since the computation started, see {@link #applyOutdatedComputation(IndexesComputation, int[])}.
+	 */
+	private void applyComputation(IndexesComputation computation, int[] indexes) {
+		if (computation.isOutdated()) {
+			applyOutdatedComputation(computation, indexes);
+			return;
+		}
+
+		List<T> removed = this.hasListeners() ? new ArrayList<>(this) : List.of();
+		setComputation(computation, indexes);
 		if (this.hasListeners()) {
-			this.fireChange(new GenericAddRemoveChange<>(0, size(), new ArrayList<>(this), this));
+			this.fireChange(new GenericAddRemoveChange<>(0, size(), removed, this));
+		}
+	}
+
+	/**
+	 * Replaces the current indexes with the given ones, computed by the given {@link IndexesComputation} against a snapshot
+	 * of the source which changed meanwhile, and fires a single change which replaces the whole list.
+	 * <p>
+	 * The source changes are applied on top of the result: the items which were not touched keep the computed order,
+	 * {@link IndexesComputation#keptIndexes(int[])}, while the added and updated ones, {@link IndexesComputation#pendingIndexes()},
+	 * are inserted at their position by binary search, {@link #addIndexes(int[], int, int[], IntBinaryOperator)}.
+	 */
+	private void applyOutdatedComputation(IndexesComputation computation, int[] indexes) {
+		beginChange();
+		if (!isEmpty()) nextRemove(0, new ArrayList<>(this));
+		int[] kept = computation.keptIndexes(indexes);
+		setComputation(computation, kept);
+		if (kept.length > 0) nextAdd(0, kept.length);
+		setIndexes(addIndexes(kept, kept.length, computation.pendingIndexes(), indexComparator(getSource(), appliedComparator)));
+		endChange();
+	}
+
+	/**
+	 * Replaces the current indexes with the given ones, computed by the given {@link IndexesComputation},
+	 * without firing any change.
+	 */
+	private void setComputation(IndexesComputation computation, int[] indexes) {
+		computationException.set(null);
+		appliedPredicate = computation.filter;
+		appliedComparator = computation.sorter;
+		keyCache = computation.sorter instanceof SortKey && computation.keysValid ? computation.keyCache : null;
+		setIndexes(indexes);
+	}
+
+	/**
+	 * @return whether the parallel mode is enabled and the given size is at least the parallel threshold
+	 */
+	private boolean useParallel(int size) {
+		return isParallel() && size >= getParallelThreshold();
+	}
+
+	/**
+	 * Replaces the view to source mapping with the given one and rebuilds the
+	 * source to view mapping accordingly.
+	 */
+	private void setIndexes(int[] indexes) {
+		int sourceSize = getSource().size();
+		int[] reverse = sourceToView.length == sourceSize ? sourceToView : new int[sourceSize];
+		Arrays.fill(reverse, -1);
+		for (int i = 0; i < indexes.length; i++) {
+			reverse[indexes[i]] = i;
+		}
+		viewToSource = indexes;
+		sourceToView = reverse;
+	}
+
+	/**
+	 * Incrementally handles additions, removals, replacements and updates in the source list.
+	 * <p>
+	 * The sub-changes are first collected as "segments", each segment maps a range of old source indexes to
+	 * the new ones (or marks them as removed). Then the current indexes are remapped in a single pass: removed items
+	 * are removed from the view, updated items are tested again against the predicate (and re-positioned if the
+	 * list is sorted). Finally, the new items (and the updated items that now pass the predicate) are
+	 * inserted at their position by binary search, {@link #addIndexes(int[], int, int[], IntBinaryOperator)}.
+	 * <p></p>
+	 * This way the predicate and the comparator are only applied to the affected items, O(k log n) rather than
+	 * the O(n log n) of {@link IndexesComputation#computeIndexes()}.
+	 */
+	private void addRemove(ListChangeListener.Change<? extends T> c) {
+		List<int[]> segments = new ArrayList<>();
+		List<List<? extends T>> removedItems = new ArrayList<>();
+		List<int[]> updatedRanges = new ArrayList<>();
+		int delta = 0;
+		int candidates = 0;
+		while (c.next()) {
+			candidates += c.getTo() - c.getFrom();
+			if (c.wasUpdated()) {
+				updatedRanges.add(new int[]{c.getFrom(), c.getTo()});
+				continue;
+			}
+			int oldFrom = c.getFrom() - delta;
+			delta += c.getAddedSize() - c.getRemovedSize();
+			segments.add(new int[]{oldFrom, c.getRemovedSize(), delta});
+			removedItems.add(c.wasRemoved() ? new ArrayList<>(c.getRemoved()) : List.of());
+		}
+		c.reset();
+
+		ObservableList<? extends T> source = getSource();
+		Predicate<? super T> filter = appliedPredicate;
+		Comparator<? super T> sorter = appliedComparator;
+		Set<Integer> updatedInView = new HashSet<>();
+		int[] toInsert = new int[candidates];
+		int insertCount = 0;
+		int[] kept = new int[viewToSource.length];
+		int keptCount = 0;
+		for (int oldIndex : viewToSource) {
+			int newIndex = oldIndex;
+			int segIndex = findSegment(segments, oldIndex);
+			if (segIndex != -1) {
+				int[] segment = segments.get(segIndex);
+				int offset = oldIndex - segment[0];
+				if (offset < segment[1]) {
+					nextRemove(keptCount, removedItems.get(segIndex).get(offset));
+					continue;
+				}
+				newIndex = oldIndex + segment[2];
+			}
+
+			if (!updatedRanges.isEmpty() && isInRanges(updatedRanges, newIndex)) {
+				updatedInView.add(newIndex);
+				T item = source.get(newIndex);
+				if (filter != null && !filter.test(item)) {
+					nextRemove(keptCount, item);
+					continue;
+				}
+				if (sorter != null) {
+					nextRemove(keptCount, item);
+					toInsert[insertCount++] = newIndex;
+					continue;
+				}
+				nextUpdate(keptCount);
+			}
+			kept[keptCount++] = newIndex;
+		}
+
+		while (c.next()) {
+			for (int i = c.getFrom(); i < c.getTo(); i++) {
+				if (c.wasUpdated() && updatedInView.contains(i)) continue;
+				if (filter == null || filter.test(source.get(i))) toInsert[insertCount++] = i;
+			}
+		}
+
+		toInsert = Arrays.copyOf(toInsert, insertCount);
+		setIndexes(addIndexes(kept, keptCount, toInsert, indexComparator(source, sorter)));
+	}
+
+	/**
+	 * Adds the given indexes (in any order) to the first "size" elements of the given indexes array, which are
+	 * already sorted according to the given comparator.
+	 * <p>
+	 * If the number of indexes to add is at most {@link #insertionThresholdProperty()} times the size, they are sorted
+	 * and placed by binary search, {@link #insertIndexes(int[], int, int[], IntBinaryOperator)}. Otherwise, binary search
+	 * would not pay off, so the two arrays are concatenated and sorted from scratch, {@link #sortIndexes(int[], IntBinaryOperator, boolean)}.
+	 * In both cases an addition is recorded for each added index, so this must be called between {@code beginChange()} and
+	 * {@code endChange()}.
+	 *
+	 * @return the new array of indexes
+	 */
+	private int[] addIndexes(int[] indexes, int size, int[] toAdd, IntBinaryOperator comparator) {
+		if (toAdd.length <= getInsertionThreshold() * size) {
+			sortIndexes(toAdd, comparator, useParallel(toAdd.length));
+			return insertIndexes(indexes, size, toAdd, comparator);
+		}
+
+		int[] merged = Arrays.copyOf(indexes, size + toAdd.length);
+		System.arraycopy(toAdd, 0, merged, size, toAdd.length);
+		sortIndexes(merged, comparator, useParallel(merged.length));
+
+		// The old indexes keep their relative order, so anything that does not match the next old index is new
+		int next = 0;
+		for (int i = 0; i < merged.length; i++) {
+			if (next < size && merged[i] == indexes[next]) {
+				next++;
+			} else {
+				nextAdd(i, i + 1);
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * Merges the given sorted indexes to insert into the first "size" elements of the given indexes array,
+	 * each position is found by binary search, {@link #findInsertionPoint(int[], int, int, int, IntBinaryOperator)}.
+	 * <p>
+	 * For each inserted index an addition is recorded, so this must be called between {@code beginChange()} and
+	 * {@code endChange()}.
+	 *
+	 * @return the new array of indexes
+	 */
+	private int[] insertIndexes(int[] indexes, int size, int[] toInsert, IntBinaryOperator comparator) {
+		int[] merged = new int[size + toInsert.length];
+		int mergedCount = 0;
+		int lo = 0;
+		for (int index : toInsert) {
+			int pos = findInsertionPoint(indexes, lo, size, index, comparator);
+			System.arraycopy(indexes, lo, merged, mergedCount, pos - lo);
+			mergedCount += pos - lo;
+			lo = pos;
+			nextAdd(mergedCount, mergedCount + 1);
+			merged[mergedCount++] = index;
+		}
+		System.arraycopy(indexes, lo, merged, mergedCount, size - lo);
+		return merged;
+	}
+
+	/**
+	 * Handles a permutation of the source list.
+	 * <p>
+	 * The current indexes are remapped according to the source's permutation. If the list is not sorted, the view
+	 * follows the source order, so the view is permuted accordingly. If the list is sorted, items keep their position, except
+	 * for the ones the comparator considers equal, since their order depends on the source indexes.
+	 * <p>
+	 * A permutation change is fired only if at least one item changed position in the view.
+	 */
+	private void permutate(ListChangeListener.Change<? extends T> c) {
+		int from = c.getFrom();
+		int to = c.getTo();
+		int size = viewToSource.length;
+		int[] mapped = new int[size];
+		for (int i = 0; i < size; i++) {
+			int index = viewToSource[i];
+			mapped[i] = (index >= from && index < to) ? c.getPermutation(index) : index;
+		}
+
+		int[] indexes = mapped.clone();
+		sortIndexes(indexes, indexComparator(getSource(), appliedComparator), useParallel(size));
+		setIndexes(indexes);
+
+		int[] perm = new int[size];
+		boolean changed = false;
+		for (int i = 0; i < size; i++) {
+			perm[i] = sourceToView[mapped[i]];
+			changed |= perm[i] != i;
+		}
+		if (changed) nextPermutation(0, size, perm);
+	}
+
+	/**
+	 * Builds an {@link IntBinaryOperator} that compares two indexes of the given source according to their position in the view.
+	 * <p>
+	 * If the given comparator is not null, the items at the given indexes are compared, ties are resolved by their index in the
+	 * source, so that the order is always the same as a stable sort of the source.
+	 */
+	private static <T> IntBinaryOperator indexComparator(List<? extends T> source, Comparator<? super T> sorter) {
+		if (sorter == null) return Integer::compare;
+		return (i1, i2) -> {
+			int res = sorter.compare(source.get(i1), source.get(i2));
+			return res != 0 ? res : Integer.compare(i1, i2);
+		};
+	}
+
+	/**
+	 * Binary search for the position at which the given source index must be inserted in the given
+	 * array of indexes, between from (inclusive) and to (exclusive).
+	 */
+	private int findInsertionPoint(int[] indexes, int from, int to, int index, IntBinaryOperator comparator) {
+		int low = from;
+		int high = to - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (comparator.applyAsInt(indexes[mid], index) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
 		}
+		return low;
 	}
 
 	/**
-	 * Core method of TransformableLists. This is responsible for computing
-	 * the transformed indexes by creating a {@link SortedMap} and mapping every index from 0 to source size
-	 * to its item. Before mapping, items are filtered with the given predicate, {@link #predicateProperty()}.
-	 * Before returning, the map's entry set is sorted by its values with the given comparator, {@link #comparatorProperty()}.
-	 * Finally, returns the map's key set, this set contains the transformed indexes, filtered and sorted.
+	 * Stable merge sort of the given primitive array of indexes, using the given comparator.
+	 * <p>
+	 * The sort is performed in parallel on the common {@link ForkJoinPool} if the parallel flag is true.
+	 *
+	 * @see MergeSortTask
 	 */
-	private Collection<Integer> computeIndexes() {
-		Predicate<? super T> filter = this.getPredicate();
-		Comparator<? super T> sorter = this.getComparator();
-		SortedMap<Integer, T> sourceMap;
-		if (filter != null) {
-			sourceMap = IntStream.range(0, getSource().size())
-					.filter((index) -> filter.test(getSource().get(index)))
-					.collect(TreeMap::new, (map, index) -> map.put(index, getSource().get(index)), TreeMap::putAll);
+	private static void sortIndexes(int[] indexes, IntBinaryOperator comparator, boolean parallel) {
+		if (indexes.length < 2) return;
+		if (parallel) {
+			ForkJoinPool.commonPool().invoke(new MergeSortTask(indexes.clone(), indexes, 0, indexes.length, comparator));
 		} else {
-			sourceMap = IntStream.range(0, getSource().size())
-					.collect(TreeMap::new, (map, index) -> map.put(index, getSource().get(index)), TreeMap::putAll);
+			mergeSort(indexes.clone(), indexes, 0, indexes.length, comparator);
+		}
+	}
+
+	/**
+	 * Sorts dest[low, high) using src as support array, both arrays must contain the same elements in that range.
+	 */
+	private static void mergeSort(int[] src, int[] dest, int low, int high, IntBinaryOperator comparator) {
+		int length = high - low;
+		if (length < 7) {
+			for (int i = low + 1; i < high; i++) {
+				for (int j = i; j > low && comparator.applyAsInt(dest[j - 1], dest[j]) > 0; j--) {
+					int tmp = dest[j];
+					dest[j] = dest[j - 1];
+					dest[j - 1] = tmp;
+				}
+			}
+			return;
+		}
+
+		int mid = (low + high) >>> 1;
+		mergeSort(dest, src, low, mid, comparator);
+		mergeSort(dest, src, mid, high, comparator);
+		merge(src, dest, low, mid, high, comparator);
+	}
+
+	/**
+	 * Merges the two sorted ranges src[low, mid) and src[mid, high) into dest[low, high).
+	 */
+	private static void merge(int[] src, int[] dest, int low, int mid, int high, IntBinaryOperator comparator) {
+		if (comparator.applyAsInt(src[mid - 1], src[mid]) <= 0) {
+			System.arraycopy(src, low, dest, low, high - low);
+			return;
+		}
+		for (int i = low, p = low, q = mid; i < high; i++) {
+			if (q >= high || p < mid && comparator.applyAsInt(src[p], src[q]) <= 0) {
+				dest[i] = src[p++];
+			} else {
+				dest[i] = src[q++];
+			}
+		}
+	}
+
+	/**
+	 * Finds the last segment which starts before or at the given old index, -1 if none.
+	 * <p>
+	 * Segments are expressed as {oldFrom, removedSize, delta}.
+	 */
+	private int findSegment(List<int[]> segments, int oldIndex) {
+		int low = 0;
+		int high = segments.size() - 1;
+		int found = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (segments.get(mid)[0] <= oldIndex) {
+				found = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * @return whether the given index is contained in one of the given sorted, non-overlapping, ranges
+	 */
+	private boolean isInRanges(List<int[]> ranges, int index) {
+		int low = 0;
+		int high = ranges.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int[] range = ranges.get(mid);
+			if (index < range[0]) {
+				high = mid - 1;
+			} else if (index >= range[1]) {
+				low = mid + 1;
+			} else {
+				return true;
+			}
 		}
+		return false;
+	}
+
+	public boolean isParallel() {
+		return parallel.get();
+	}
+
+	/**
+	 * Specifies whether the list should filter and sort in parallel, on the common {@link ForkJoinPool},
+	 * when the source size is at least {@link #parallelThresholdProperty()}.
+	 * <p>
+	 * <b>N.B:</b> when enabled, the predicate and the comparator may be invoked concurrently from multiple threads,
+	 * so they must be thread-safe and free of side effects.
+	 */
+	public BooleanProperty parallelProperty() {
+		return parallel;
+	}
+
+	public void setParallel(boolean parallel) {
+		this.parallel.set(parallel);
+	}
+
+	public int getParallelThreshold() {
+		return parallelThreshold.get();
+	}
+
+	/**
+	 * Specifies the minimum source size for which the list filters and sorts in parallel,
+	 * {@link #DEFAULT_PARALLEL_THRESHOLD} by default.
+	 *
+	 * @see #parallelProperty()
+	 */
+	public IntegerProperty parallelThresholdProperty() {
+		return parallelThreshold;
+	}
+
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold.set(parallelThreshold);
+	}
+
+	public double getInsertionThreshold() {
+		return insertionThreshold.get();
+	}
+
+	/**
+	 * Specifies the maximum ratio between the number of items being added to the view and the view's size
+	 * for which the new items are placed by binary search, {@link #DEFAULT_INSERTION_THRESHOLD} by default.
+	 * <p>
+	 * When more items are added at once (for example a big {@code addAll} on a small list), the view is sorted again
+	 * from scratch since it's cheaper. Either way the list fires precise additions.
+	 * <p>
+	 * Set to 0 to always sort from scratch or to {@link Double#POSITIVE_INFINITY} to always use binary search.
+	 */
+	public DoubleProperty insertionThresholdProperty() {
+		return insertionThreshold;
+	}
+
+	public void setInsertionThreshold(double insertionThreshold) {
+		this.insertionThreshold.set(insertionThreshold);
+	}
+
+	public boolean isAsync() {
+		return async.get();
+	}
+
+	/**
+	 * Specifies whether the indexes should be computed asynchronously, off the JavaFX thread, when the predicate
+	 * or the comparator change.
+	 * <p>
+	 * The computation runs on the {@link #asyncExecutorProperty()} against a snapshot of the source list, a new
+	 * predicate or comparator cancels the pending computation. The result is published on the JavaFX thread as a single change,
+	 * the source changes made meanwhile are applied on top of it. Until then, the list keeps showing (and incrementally updating)
+	 * the previous transformation, and {@link #computingProperty()} is true.
+	 * <p>
+	 * <b>N.B:</b> the predicate and the comparator are invoked on a background thread, so they must not
+	 * access the scene graph and must be safe to use while the JavaFX thread runs.
+	 */
+	public BooleanProperty asyncProperty() {
+		return async;
+	}
+
+	public void setAsync(boolean async) {
+		this.async.set(async);
+	}
+
+	public Executor getAsyncExecutor() {
+		return asyncExecutor.get();
+	}
+
+	/**
+	 * Specifies the {@link Executor} used to compute the indexes when {@link #asyncProperty()} is true.
+	 * <p>
+	 * By default, a shared executor backed by daemon threads is used.
+	 */
+	public ObjectProperty<Executor> asyncExecutorProperty() {
+		return asyncExecutor;
+	}
+
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor.set(asyncExecutor);
+	}
+
+	public boolean isComputing() {
+		return computing.get();
+	}
+
+	/**
+	 * Specifies whether an asynchronous computation of the indexes is pending.
+	 * <p>
+	 * Useful for example to show a busy indicator.
+	 *
+	 * @see #asyncProperty()
+	 */
+	public ReadOnlyBooleanProperty computingProperty() {
+		return computing.getReadOnlyProperty();
+	}
+
+	public Throwable getComputationException() {
+		return computationException.get();
+	}
 
-		return sorter != null ? sourceMap.entrySet().stream()
-				.sorted((o1, o2) -> sorter.compare(o1.getValue(), o2.getValue()))
-				.map(Map.Entry::getKey)
-				.collect(Collectors.toList()) : sourceMap.keySet();
+	/**
+	 * Specifies the exception thrown by the predicate or the comparator during the last asynchronous computation,
+	 * null if none or once the indexes are computed again.
+	 * <p>
+	 * When a computation fails the list keeps showing the previous transformation, and {@link #computingProperty()} is reset.
+	 *
+	 * @see #asyncProperty()
+	 */
+	public ReadOnlyObjectProperty<Throwable> computationExceptionProperty() {
+		return computationException.getReadOnlyProperty();
 	}
 
 	public Predicate<? super T> getPredicate() {
@@ -189,6 +959,26 @@ public void setPredicate(Predicate<T> predicate) {
 		this.predicate.set(predicate);
 	}
 
+	/**
+	 * Sets the given predicate, specifying how it relates to the current one.
+	 * <p>
+	 * With {@link Refinement#NARROWING} only the items currently in the view are tested, with {@link Refinement#WIDENING}
+	 * only the items currently excluded are tested, and the list fires precise removals/additions instead of
+	 * replacing everything. This way, for example, typing-driven filtering scales with the result size rather than
+	 * the source size.
+	 * <p>
+	 * The refinement must be correct, otherwise the view won't be consistent with the predicate. It is ignored (the whole
+	 * source is filtered again) if an asynchronous computation is pending or the comparator changed in the meantime.
+	 */
+	public void setPredicate(Predicate<T> predicate, Refinement refinement) {
+		this.refinement = refinement != null ? refinement : Refinement.NONE;
+		try {
+			this.predicate.set(predicate);
+		} finally {
+			this.refinement = Refinement.NONE;
+		}
+	}
+
 	public Comparator<T> getComparator() {
 		return this.comparator.get();
 	}
@@ -208,14 +998,43 @@ public void setComparator(Comparator<T> comparator) {
 	}
 
 	/**
-	 * This method is NECESSARY if using a reversed comparator,
-	 * a special flag is set to true and {@link #sourceToView(int)} behaves accordingly.
+	 * Sets the comparator and the {@link #isReversed()} flag.
+	 * <p>
+	 * Since {@link #sourceToView(int)} uses a direct mapping, the flag is not needed anymore for the
+	 * lookup to work, it's just informative.
 	 */
 	public void setComparator(Comparator<T> comparator, boolean reversed) {
 		this.reversed = reversed;
 		this.comparator.set(comparator);
 	}
 
+	/**
+	 * Sorts the list by the {@link Comparable} key extracted by the given function.
+	 * <p>
+	 * Keys are extracted only once per item, see {@link SortKey}.
+	 */
+	public <U extends Comparable<? super U>> void setSortKey(Function<? super T, ? extends U> extractor) {
+		setComparator(SortKey.of(extractor));
+	}
+
+	/**
+	 * Sorts the list by the int key extracted by the given function.
+	 * <p>
+	 * Keys are extracted only once per item and stored in a primitive array, see {@link SortKey}.
+	 */
+	public void setSortKeyInt(ToIntFunction<? super T> extractor) {
+		setComparator(SortKey.ofInt(extractor));
+	}
+
+	/**
+	 * Sorts the list by the double key extracted by the given function.
+	 * <p>
+	 * Keys are extracted only once per item and stored in a primitive array, see {@link SortKey}.
+	 */
+	public void setSortKeyDouble(ToDoubleFunction<? super T> extractor) {
+		setComparator(SortKey.ofDouble(extractor));
+	}
+
 	/**
 	 * Specifies if a reversed comparator is being used.
 	 */
@@ -224,8 +1043,7 @@ public boolean isReversed() {
 	}
 
 	/**
-	 * Communicates to the transformed list, specifically to {@link #getViewIndex(int)},
-	 * if the list is sorted in reversed order.
+	 * Communicates to the transformed list if the list is sorted in reversed order.
 	 */
 	public void setReversed(boolean reversed) {
 		this.reversed = reversed;
@@ -238,12 +1056,43 @@ public void setReversed(boolean reversed) {
 	/**
 	 * {@inheritDoc}
 	 * <p></p>
-	 * Calls {@link #update()}.
+	 * Source changes are processed incrementally: only the added, removed and updated items are filtered
+	 * and sorted, and the change is translated into precise view-level additions, removals, updates and permutations.
+	 * <p>
+	 * Changes that mix a permutation with other kinds of sub-changes fall back to {@link #update()}.
+	 * <p>
+	 * While a batch is open, changes are not processed, see {@link #beginBatch()}.
+	 *
+	 * @see #addRemove(ListChangeListener.Change)
+	 * @see #permutate(ListChangeListener.Change)
 	 */
 	@Override
 	protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
+		sourceModCount++;
+		invalidateKeys();
+		if (batchDepth > 0) {
+			batchDirty = true;
+			return;
+		}
+		if (currentComputation != null) currentComputation.sourceChanged(c);
+
+		int subChanges = 0;
+		boolean permutated = false;
+		while (c.next()) {
+			subChanges++;
+			permutated |= c.wasPermutated();
+		}
+		c.reset();
+
 		beginChange();
-		update();
+		if (permutated && subChanges > 1) {
+			update();
+		} else if (permutated) {
+			c.next();
+			permutate(c);
+		} else {
+			addRemove(c);
+		}
 		endChange();
 	}
 
@@ -252,7 +1101,7 @@ protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
 	 */
 	@Override
 	public int size() {
-		return indexes.size();
+		return viewToSource.length;
 	}
 
 	/**
@@ -262,27 +1111,260 @@ public int size() {
 	 */
 	@Override
 	public T get(int index) {
-		if (index > size()) {
-			throw new IndexOutOfBoundsException(index);
-		} else {
-			return getSource().get(indexes.get(index));
-		}
+		if (batchSnapshot != null) return batchSnapshot.get(index);
+		return getSource().get(getSourceIndex(index));
 	}
 
 	@Override
 	public int getSourceIndex(int index) {
-		if (index > size()) {
+		if (index < 0 || index >= size()) {
 			throw new IndexOutOfBoundsException(index);
 		} else {
-			return indexes.get(index);
+			return viewToSource[index];
 		}
 	}
 
 	@Override
 	public int getViewIndex(int index) {
-		int viewIndex = reversed ?
-				Collections.binarySearch(indexes, index, Collections.reverseOrder()) :
-				Collections.binarySearch(indexes, index);
-		return viewIndex < 0 ? -1 : viewIndex;
+		if (index < 0 || index >= sourceToView.length) return -1;
+		return sourceToView[index];
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Represents a computation of the transformed indexes, capturing the source list, the predicate, the
+	 * comparator and the parallel setting at the moment of its creation.
+	 * <p>
+	 * The computation can be cancelled with {@link #cancel()}, in which case {@link #computeIndexes()}
+	 * stops as soon as possible by throwing a {@link CancellationException}.
+	 * <p>
+	 * The changes of the source made after the snapshot was taken are recorded by {@link #sourceChanged(ListChangeListener.Change)}.
+	 */
+	private class IndexesComputation {
+		private final List<? extends T> source;
+		private final Predicate<? super T> filter;
+		private final Comparator<? super T> sorter;
+		private final boolean parallel;
+		private final int sourceModCount;
+		private final SortKey.KeyCache keyCache;
+		private boolean keysValid = true;
+		private volatile boolean cancelled = false;
+		private int[] snapshotToSource;
+		private BitSet pending;
+		private boolean permuted = false;
+
+		public IndexesComputation(List<? extends T> source, SortKey.KeyCache keyCache) {
+			this.source = source;
+			this.keyCache = keyCache;
+			this.filter = getPredicate();
+			this.sorter = getComparator();
+			this.parallel = useParallel(source.size());
+			this.sourceModCount = TransformableList.this.sourceModCount;
+		}
+
+		/**
+		 * Core method of TransformableLists. This is responsible for computing
+		 * the transformed indexes. Every index from 0 to source size is tested against the given predicate,
+		 * {@link #predicateProperty()}, the ones that pass are collected in a primitive array.
+		 * Then, if the comparator is set, {@link #comparatorProperty()}, the array is sorted by the items at those indexes,
+		 * see {@link #sortIndexes(int[], IntBinaryOperator, boolean)}. If the comparator is a {@link SortKey}, the keys
+		 * are extracted only once per item and the array is sorted by comparing the extracted keys.
+		 * Finally, returns the array of transformed indexes, filtered and sorted.
+		 * <p></p>
+		 * If {@link #parallelProperty()} is true and the source size is at least {@link #parallelThresholdProperty()},
+		 * the source is filtered in chunks on the common {@link ForkJoinPool} and the indexes are sorted with
+		 * a parallel merge sort. The result is exactly the same of the sequential computation.
+		 */
+		public int[] computeIndexes() {
+			int sourceSize = source.size();
+			int[] indexes;
+			if (filter == null) {
+				indexes = new int[sourceSize];
+				Arrays.setAll(indexes, i -> i);
+			} else if (parallel) {
+				indexes = IntStream.range(0, sourceSize)
+						.parallel()
+						.filter(index -> {
+							checkCancelled();
+							return filter.test(source.get(index));
+						})
+						.toArray();
+			} else {
+				indexes = new int[sourceSize];
+				int count = 0;
+				for (int i = 0; i < sourceSize; i++) {
+					checkCancelled();
+					if (filter.test(source.get(i))) indexes[count++] = i;
+				}
+				if (count != sourceSize) indexes = Arrays.copyOf(indexes, count);
+			}
+
+			if (sorter != null) {
+				IntBinaryOperator comparator = sorter instanceof SortKey ?
+						((SortKey<? super T>) sorter).indexComparator(source, indexes, keyCache, sourceModCount, parallel, this::checkCancelled) :
+						indexComparator(source, sorter);
+				sortIndexes(indexes, (i1, i2) -> {
+					checkCancelled();
+					return comparator.applyAsInt(i1, i2);
+				}, parallel);
+			}
+			return indexes;
+		}
+
+		/**
+		 * Records a change of the source list made after the snapshot was taken, so that the result can be
+		 * brought up-to-date when it's applied, see {@link #applyOutdatedComputation(IndexesComputation, int[])}.
+		 * <p>
+		 * The source indexes of the snapshot's items are remapped to the current ones (-1 if removed), as in
+		 * {@link #addRemove(ListChangeListener.Change)}, and the current indexes of the added and updated items are collected.
+		 * For a permutation both are permuted.
+		 */
+		public void sourceChanged(ListChangeListener.Change<? extends T> c) {
+			if (snapshotToSource == null) {
+				snapshotToSource = new int[source.size()];
+				Arrays.setAll(snapshotToSource, i -> i);
+				pending = new BitSet();
+			}
+
+			List<int[]> segments = new ArrayList<>();
+			List<int[]> changedRanges = new ArrayList<>();
+			int delta = 0;
+			while (c.next()) {
+				if (c.wasPermutated()) {
+					permute(c);
+					continue;
+				}
+				if (!c.wasUpdated()) {
+					int oldFrom = c.getFrom() - delta;
+					delta += c.getAddedSize() - c.getRemovedSize();
+					segments.add(new int[]{oldFrom, c.getRemovedSize(), delta});
+				}
+				changedRanges.add(new int[]{c.getFrom(), c.getTo()});
+			}
+			c.reset();
+
+			// Nothing to remap if the items were only added at the end
+			int oldSize = getSource().size() - delta;
+			if (!segments.isEmpty() && segments.get(0)[0] < oldSize) {
+				for (int i = 0; i < snapshotToSource.length; i++) {
+					snapshotToSource[i] = remap(segments, snapshotToSource[i]);
+				}
+				BitSet remapped = new BitSet();
+				pending.stream().map(index -> remap(segments, index)).filter(index -> index != -1).forEach(remapped::set);
+				pending = remapped;
+			}
+			for (int[] range : changedRanges) {
+				pending.set(range[0], range[1]);
+			}
+		}
+
+		/**
+		 * Applies the given permutation to the recorded indexes.
+		 */
+		private void permute(ListChangeListener.Change<? extends T> c) {
+			int from = c.getFrom();
+			int to = c.getTo();
+			for (int i = 0; i < snapshotToSource.length; i++) {
+				int index = snapshotToSource[i];
+				if (index >= from && index < to) snapshotToSource[i] = c.getPermutation(index);
+			}
+			BitSet permutedPending = new BitSet();
+			pending.stream().forEach(index -> permutedPending.set(index >= from && index < to ? c.getPermutation(index) : index));
+			pending = permutedPending;
+			permuted = true;
+		}
+
+		/**
+		 * Maps the given old source index to the new one according to the given segments, see {@link #findSegment(List, int)}.
+		 *
+		 * @return the new index, -1 if the item was removed
+		 */
+		private int remap(List<int[]> segments, int index) {
+			if (index == -1) return -1;
+			int segIndex = findSegment(segments, index);
+			if (segIndex == -1) return index;
+			int[] segment = segments.get(segIndex);
+			return index - segment[0] < segment[1] ? -1 : index + segment[2];
+		}
+
+		/**
+		 * @return whether the source changed after the snapshot was taken
+		 */
+		public boolean isOutdated() {
+			return snapshotToSource != null;
+		}
+
+		/**
+		 * Maps the given indexes, computed against the snapshot, to the current source indexes, leaving out the
+		 * items which were removed or updated after the snapshot was taken. The relative order is kept, unless the source
+		 * was permuted, in which case the indexes are sorted again since the ties depend on the source indexes.
+		 */
+		public int[] keptIndexes(int[] indexes) {
+			int[] kept = new int[indexes.length];
+			int count = 0;
+			for (int index : indexes) {
+				int current = snapshotToSource[index];
+				if (current != -1 && !pending.get(current)) kept[count++] = current;
+			}
+			if (count != kept.length) kept = Arrays.copyOf(kept, count);
+			if (permuted) sortIndexes(kept, indexComparator(getSource(), sorter), useParallel(count));
+			return kept;
+		}
+
+		/**
+		 * @return the current source indexes of the items added or updated after the snapshot was taken
+		 * which pass the predicate
+		 */
+		public int[] pendingIndexes() {
+			List<? extends T> current = getSource();
+			return pending.stream().filter(index -> filter == null || filter.test(current.get(index))).toArray();
+		}
+
+		public void cancel() {
+			cancelled = true;
+		}
+
+		private void checkCancelled() {
+			if (cancelled) throw new CancellationException();
+		}
+	}
+
+	/**
+	 * {@link RecursiveAction} used to sort the indexes in parallel, the ranges are split in half until
+	 * they are small enough to be sorted sequentially, then the sorted halves are merged.
+	 */
+	private static class MergeSortTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int[] src;
+		private final int[] dest;
+		private final int low;
+		private final int high;
+		private final IntBinaryOperator comparator;
+
+		public MergeSortTask(int[] src, int[] dest, int low, int high, IntBinaryOperator comparator) {
+			this.src = src;
+			this.dest = dest;
+			this.low = low;
+			this.high = high;
+			this.comparator = comparator;
+		}
+
+		@Override
+		protected void compute() {
+			if (high - low <= PARALLEL_SORT_GRANULARITY) {
+				mergeSort(src, dest, low, high, comparator);
+				return;
+			}
+
+			int mid = (low + high) >>> 1;
+			invokeAll(
+					new MergeSortTask(dest, src, low, mid, comparator),
+					new MergeSortTask(dest, src, mid, high, comparator)
+			);
+			merge(src, dest, low, mid, high, comparator);
+		}
 	}
 }
@@ -20,7 +20,14 @@
 
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.PredicateProperty;
+import io.github.palexdev.materialfx.enums.Refinement;
 import javafx.beans.InvalidationListener;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.TransformationList;
@@ -28,7 +35,11 @@
 import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
 
 /**
  * For some idiot reason JavaFX's {@link TransformationList}s do not allow modifying the
@@ -281,6 +292,177 @@ public int sourceToView(int index) {
 		return transformableList.sourceToView(index);
 	}
 
+	/**
+	 * Delegate for {@link TransformableList#beginBatch()}.
+	 * <p>
+	 * Mutations made through this wrapper while the batch is open are applied to the source list right away,
+	 * but they are processed, and a single change is fired, only when the outermost batch ends.
+	 */
+	public void beginBatch() {
+		transformableList.beginBatch();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#endBatch()}.
+	 */
+	public void endBatch() {
+		transformableList.endBatch();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#runBatch(Runnable)}.
+	 */
+	public void runBatch(Runnable action) {
+		transformableList.runBatch(action);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#isBatching()}.
+	 */
+	public boolean isBatching() {
+		return transformableList.isBatching();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#invalidateKeys()}.
+	 */
+	public void invalidateKeys() {
+		transformableList.invalidateKeys();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#isParallel()}.
+	 */
+	public boolean isParallel() {
+		return transformableList.isParallel();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#parallelProperty()}.
+	 */
+	public BooleanProperty parallelProperty() {
+		return transformableList.parallelProperty();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setParallel(boolean)}.
+	 */
+	public void setParallel(boolean parallel) {
+		transformableList.setParallel(parallel);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getParallelThreshold()}.
+	 */
+	public int getParallelThreshold() {
+		return transformableList.getParallelThreshold();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#parallelThresholdProperty()}.
+	 */
+	public IntegerProperty parallelThresholdProperty() {
+		return transformableList.parallelThresholdProperty();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setParallelThreshold(int)}.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		transformableList.setParallelThreshold(parallelThreshold);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getInsertionThreshold()}.
+	 */
+	public double getInsertionThreshold() {
+		return transformableList.getInsertionThreshold();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#insertionThresholdProperty()}.
+	 */
+	public DoubleProperty insertionThresholdProperty() {
+		return transformableList.insertionThresholdProperty();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setInsertionThreshold(double)}.
+	 */
+	public void setInsertionThreshold(double insertionThreshold) {
+		transformableList.setInsertionThreshold(insertionThreshold);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#isAsync()}.
+	 */
+	public boolean isAsync() {
+		return transformableList.isAsync();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#asyncProperty()}.
+	 */
+	public BooleanProperty asyncProperty() {
+		return transformableList.asyncProperty();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setAsync(boolean)}.
+	 */
+	public void setAsync(boolean async) {
+		transformableList.setAsync(async);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getAsyncExecutor()}.
+	 */
+	public Executor getAsyncExecutor() {
+		return transformableList.getAsyncExecutor();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#asyncExecutorProperty()}.
+	 */
+	public ObjectProperty<Executor> asyncExecutorProperty() {
+		return transformableList.asyncExecutorProperty();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setAsyncExecutor(Executor)}.
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		transformableList.setAsyncExecutor(asyncExecutor);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#isComputing()}.
+	 */
+	public boolean isComputing() {
+		return transformableList.isComputing();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#computingProperty()}.
+	 */
+	public ReadOnlyBooleanProperty computingProperty() {
+		return transformableList.computingProperty();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#getComputationException()}.
+	 */
+	public Throwable getComputationException() {
+		return transformableList.getComputationException();
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#computationExceptionProperty()}.
+	 */
+	public ReadOnlyObjectProperty<Throwable> computationExceptionProperty() {
+		return transformableList.computationExceptionProperty();
+	}
+
 	public Predicate<? super T> getPredicate() {
 		return transformableList.getPredicate();
 	}
@@ -296,6 +478,13 @@ public void setPredicate(Predicate<T> predicate) {
 		transformableList.setPredicate(predicate);
 	}
 
+	/**
+	 * Delegate for {@link TransformableList#setPredicate(Predicate, Refinement)}.
+	 */
+	public void setPredicate(Predicate<T> predicate, Refinement refinement) {
+		transformableList.setPredicate(predicate, refinement);
+	}
+
 	public Comparator<T> getComparator() {
 		return transformableList.getComparator();
 	}
@@ -318,6 +507,27 @@ public void setComparator(Comparator<T> sorter, boolean reversed) {
 		transformableList.setComparator(sorter, reversed);
 	}
 
+	/**
+	 * Delegate for {@link TransformableList#setSortKey(Function)}.
+	 */
+	public <U extends Comparable<? super U>> void setSortKey(Function<? super T, ? extends U> extractor) {
+		transformableList.setSortKey(extractor);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setSortKeyInt(ToIntFunction)}.
+	 */
+	public void setSortKeyInt(ToIntFunction<? super T> extractor) {
+		transformableList.setSortKeyInt(extractor);
+	}
+
+	/**
+	 * Delegate for {@link TransformableList#setSortKeyDouble(ToDoubleFunction)}.
+	 */
+	public void setSortKeyDouble(ToDoubleFunction<? super T> extractor) {
+		transformableList.setSortKeyDouble(extractor);
+	}
+
 	/**
 	 * Delegate for {@link TransformableList#isReversed()}.
 	 */
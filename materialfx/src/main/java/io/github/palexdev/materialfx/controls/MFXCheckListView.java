@@ -21,6 +21,7 @@
 import io.github.palexdev.materialfx.MFXResourcesLoader;
 import io.github.palexdev.materialfx.controls.base.AbstractMFXListView;
 import io.github.palexdev.materialfx.controls.cell.MFXCheckListCell;
+import io.github.palexdev.materialfx.layout.VariableHeightFlow;
 import io.github.palexdev.materialfx.skins.MFXListViewSkin;
 import io.github.palexdev.materialfx.utils.ListChangeProcessor;
 import io.github.palexdev.virtualizedfx.beans.NumberRange;
@@ -80,12 +81,18 @@ public MFXCheckListView() {
 	}
 
 	public MFXCheckListView(ObservableList<T> items) {
-		super(items);
-		virtualFlow = new SimpleVirtualFlow<>(
-				itemsProperty(),
-				null,
-				Orientation.VERTICAL
-		);
+		this(items, false);
+	}
+
+	/**
+	 * Builds a list view whose cells can have different heights, for example items with wrapped multi-line text,
+	 * when variableCellHeights is true. In such case the cells are laid out by a {@link VariableHeightFlow}.
+	 */
+	public MFXCheckListView(ObservableList<T> items, boolean variableCellHeights) {
+		super(items, variableCellHeights);
+		virtualFlow = variableCellHeights ?
+				new VariableHeightFlow<>(itemsProperty(), null) :
+				new SimpleVirtualFlow<>(itemsProperty(), null, Orientation.VERTICAL);
 		initialize();
 	}
 
@@ -101,10 +108,14 @@ protected void initialize() {
 			newValue.addListener(itemsChanged);
 		});
 		getItems().addListener(this::itemsChanged);
+		fastScrollDetector.track(virtualFlow.verticalPositionProperty());
+		fastScrollDetector.fastScrollingProperty().addListener((observable, oldValue, newValue) -> {
+			if (!newValue) virtualFlow.getCells().values().forEach(MFXCheckListCell::resolvePlaceholder);
+		});
 	}
 
 	protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
-		if (getSelectionModel().getSelection().isEmpty()) return;
+		if (itemsDiffing || getSelectionModel().getSelection().isEmpty()) return;
 
 		if (change.getList().isEmpty()) {
 			getSelectionModel().clearSelection();
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.controls;
+
+import io.github.palexdev.materialfx.collections.ColumnarData;
+import io.github.palexdev.materialfx.collections.ColumnarData.Column;
+import io.github.palexdev.materialfx.controls.cell.MFXColumnarRowCell;
+
+/**
+ * A special {@link MFXTableColumn} for tables whose items are the rows of a {@link ColumnarData}.
+ * <p>
+ * The column reads the values directly from the given {@link Column}: cells are {@link MFXColumnarRowCell}s,
+ * which convert primitive values to text without boxing, and the comparator is the column's
+ * {@link Column#sortKey()}, which sorts by primitive keys.
+ */
+public class MFXColumnarTableColumn extends MFXTableColumn<Integer> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Column column;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXColumnarTableColumn(Column column) {
+		this(column.getName(), column);
+	}
+
+	public MFXColumnarTableColumn(String text, Column column) {
+		this(text, false, column);
+	}
+
+	public MFXColumnarTableColumn(String text, boolean resizable, Column column) {
+		super(text, resizable, column.sortKey());
+		this.column = column;
+		setRowCellFactory(row -> new MFXColumnarRowCell(column));
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the data column represented by this table column
+	 */
+	public Column getColumn() {
+		return column;
+	}
+}
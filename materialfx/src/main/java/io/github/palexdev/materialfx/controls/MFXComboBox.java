@@ -26,6 +26,7 @@
 import io.github.palexdev.materialfx.beans.properties.functional.ConsumerProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
 import io.github.palexdev.materialfx.beans.properties.styleable.StyleableBooleanProperty;
+import io.github.palexdev.materialfx.collections.ListDiff;
 import io.github.palexdev.materialfx.controls.base.MFXCombo;
 import io.github.palexdev.materialfx.controls.cell.MFXComboBoxCell;
 import io.github.palexdev.materialfx.font.MFXFontIcon;
@@ -105,6 +106,7 @@
 	private final ComboBoxSelectionModel<T> selectionModel = new ComboBoxSelectionModel<>(items);
 	private final FunctionProperty<T, Cell<T>> cellFactory = new FunctionProperty<>(t -> new MFXComboBoxCell<>(this, t));
 	private final ListChangeListener<? super T> itemsChanged = this::itemsChanged;
+	private boolean itemsDiffing = false;
 	private final ConsumerProperty<String> onCommit = new ConsumerProperty<>();
 	private final ConsumerProperty<String> onCancel = new ConsumerProperty<>();
 
@@ -247,7 +249,7 @@ public void cancel(String text) {
 	 * Responsible for updating the selection when the items list changes.
 	 */
 	protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
-		if (getSelectedIndex() == -1) return;
+		if (itemsDiffing || getSelectedIndex() == -1) return;
 
 		if (change.getList().isEmpty()) {
 			clearSelection();
@@ -277,6 +279,43 @@ protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
 		setValue(getSelectedItem());
 	}
 
+	/**
+	 * Convenience method for {@link #setItemsDiffed(List, Function)}, the items are matched by equality.
+	 */
+	public void setItemsDiffed(List<? extends T> items) {
+		setItemsDiffed(items, null);
+	}
+
+	/**
+	 * Makes the items list contain the given items by applying the minimal changes, computed by {@link ListDiff},
+	 * rather than replacing all the items. The cells of the unchanged items are not updated.
+	 * <p>
+	 * Items are matched by the keys extracted by the given function, an item with the same key of the selected item
+	 * replaces it and becomes the selected item and the value. If the selected item is removed the selection is cleared.
+	 *
+	 * @param keyExtractor the function extracting the items' keys, null to match the items by equality
+	 */
+	public void setItemsDiffed(List<? extends T> items, Function<? super T, ?> keyExtractor) {
+		ObservableList<T> current = getItems();
+		ListDiff<T> diff = ListDiff.compute(current, items, keyExtractor);
+		if (diff.isEmpty()) return;
+
+		int selected = getSelectedIndex() != -1 ? diff.getNewIndex(getSelectedIndex()) : -1;
+		itemsDiffing = true;
+		try {
+			diff.applyTo(current);
+		} finally {
+			itemsDiffing = false;
+		}
+
+		if (selected != -1) {
+			selectIndex(selected);
+			setValue(getSelectedItem());
+		} else if (getSelectedIndex() != -1) {
+			clearSelection();
+		}
+	}
+
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
@@ -19,20 +19,23 @@
 package io.github.palexdev.materialfx.controls;
 
 import io.github.palexdev.materialfx.MFXResourcesLoader;
+import io.github.palexdev.materialfx.beans.properties.functional.BiFunctionProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
 import io.github.palexdev.materialfx.collections.TransformableList;
 import io.github.palexdev.materialfx.collections.TransformableListWrapper;
 import io.github.palexdev.materialfx.controls.cell.MFXComboBoxCell;
 import io.github.palexdev.materialfx.controls.cell.MFXFilterComboBoxCell;
+import io.github.palexdev.materialfx.enums.Refinement;
 import io.github.palexdev.materialfx.skins.MFXFilterComboBoxSkin;
 import io.github.palexdev.materialfx.utils.StringUtils;
-import javafx.beans.InvalidationListener;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Skin;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -47,6 +50,8 @@
  * the comparator is in reverse order otherwise indexes will be inconsistent.
  * <p> - A function that takes the typed search text as an input and builds a {@link Predicate} as a result to
  * filter the list. This means that the user can fully customize how the list is filtered.
+ * <p> - A function that, given the previous and the new search text, tells whether the new predicate is narrower or
+ * wider than the previous one. This allows the list to re-test only a part of the items while typing.
  * <p></p>
  * Note: this combo box do not uses {@link MFXComboBoxCell} and while it does allow it it should never be used.
  * Use {@link MFXFilterComboBoxCell} instead for consistent selection behavior.
@@ -59,12 +64,16 @@
 	private final String STYLESHEET = MFXResourcesLoader.load("css/MFXFilterComboBox.css");
 
 	private final StringProperty searchText = new SimpleStringProperty();
-	private final TransformableListWrapper<T> filterList = new TransformableListWrapper<>(FXCollections.observableArrayList());
+	private final ListProperty<T> itemsView = new SimpleListProperty<>();
+	private final TransformableListWrapper<T> filterList = new TransformableListWrapper<>(itemsView);
 	private final FunctionProperty<String, Predicate<T>> filterFunction = new FunctionProperty<>(s -> t -> StringUtils.containsIgnoreCase(t.toString(), s));
+	private final BiFunctionProperty<String, String, Refinement> refinementFunction = new BiFunctionProperty<>((oldText, newText) -> {
+		if (StringUtils.containsIgnoreCase(newText, oldText)) return Refinement.NARROWING;
+		if (StringUtils.containsIgnoreCase(oldText, newText)) return Refinement.WIDENING;
+		return Refinement.NONE;
+	});
 	private boolean resetOnPopupHidden = true;
 
-	private final InvalidationListener itemsChanged = invalidated -> filterList.setAll(getItems());
-
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -85,15 +94,8 @@ private void initialize() {
 		getStyleClass().add(STYLECLASS);
 		setCellFactory(t -> new MFXFilterComboBoxCell<>(this, getFilterList(), t));
 
-		filterList.setAll(getItems());
-		itemsProperty().addListener((observable, oldValue, newValue) -> {
-			if (oldValue != null) oldValue.removeListener(itemsChanged);
-			if (newValue != null) {
-				newValue.addListener(itemsChanged);
-				filterList.setAll(newValue);
-			}
-		});
-		getItems().addListener(itemsChanged);
+		itemsView.bind(itemsProperty());
+		filterFunction.addListener(invalidated -> setRefinementFunction(null));
 	}
 
 	//================================================================================
@@ -117,6 +119,10 @@ public void setSearchText(String searchText) {
 		this.searchText.set(searchText);
 	}
 
+	/**
+	 * @return the list used to filter the items, it's built directly over the {@link #itemsProperty()} list
+	 * (through a {@link ListProperty} bound to it), so items are never copied
+	 */
 	public TransformableList<T> getFilterList() {
 		return filterList.getTransformableList();
 	}
@@ -137,6 +143,29 @@ public void setFilterFunction(Function<String, Predicate<T>> filterFunction) {
 		this.filterFunction.set(filterFunction);
 	}
 
+	public BiFunction<String, String, Refinement> getRefinementFunction() {
+		return refinementFunction.get();
+	}
+
+	/**
+	 * Specifies the function used to determine how the predicate built from the new search text relates to
+	 * the one built from the previous search text (first argument is the previous text, second is the new one).
+	 * <p>
+	 * The result is passed to {@link TransformableList#setPredicate(Predicate, Refinement)}.
+	 * The default function is consistent with the default {@link #filterFunctionProperty()}, a text containing the
+	 * previous one is narrowing, a text contained in the previous one is widening.
+	 * <p>
+	 * Since the refinement depends on how the predicate is built, this is reset to null when the
+	 * {@link #filterFunctionProperty()} changes. A null function means that the whole list is always filtered again.
+	 */
+	public BiFunctionProperty<String, String, Refinement> refinementFunctionProperty() {
+		return refinementFunction;
+	}
+
+	public void setRefinementFunction(BiFunction<String, String, Refinement> refinementFunction) {
+		this.refinementFunction.set(refinementFunction);
+	}
+
 	/**
 	 * @return whether to reset the filter state, such as the {@link #searchTextProperty()}
 	 * when the popup is closed
@@ -18,19 +18,25 @@
 
 package io.github.palexdev.materialfx.controls;
 
+import io.github.palexdev.materialfx.collections.LRUCache;
+import io.github.palexdev.materialfx.collections.PageProvider;
 import io.github.palexdev.materialfx.skins.MFXPaginatedTableViewSkin;
 import io.github.palexdev.materialfx.utils.NumberUtils;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ReadOnlyIntegerProperty;
-import javafx.beans.property.ReadOnlyIntegerWrapper;
-import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.scene.control.Skin;
 import javafx.scene.input.ScrollEvent;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
 /**
  * This is the implementation of a paginated {@link MFXTableView}.
  * <p>
@@ -43,6 +49,8 @@
  * This table view extends {@link MFXTableView} because it uses the same system (uses a virtual flow),
  * the page navigation is just a trick. The scroll bars are hidden and the scroll value is handled/updated
  * when changing the page.
+ * <p></p>
+ * Alternatively, the data can be loaded a page at a time from a {@link PageProvider}, see {@link #pageProviderProperty()}.
  *
  * @param <T> The type of the data within the table.
  */
@@ -62,6 +70,18 @@ public void set(int newValue) {
 	private final IntegerProperty pagesToShow = new SimpleIntegerProperty(9);
 	private final IntegerProperty rowsPerPage = new SimpleIntegerProperty(5);
 
+	private final ObjectProperty<PageProvider<T>> pageProvider = new SimpleObjectProperty<>();
+	private final ObjectProperty<Executor> pageExecutor = new SimpleObjectProperty<>();
+	private final IntegerProperty pageCacheSize = new SimpleIntegerProperty(16);
+	private final IntegerProperty prefetchPages = new SimpleIntegerProperty(1);
+	private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper();
+	private final LRUCache<Integer, List<T>> pageCache = new LRUCache<>(16);
+	private final Map<Integer, CompletableFuture<List<T>>> pendingPages = new HashMap<>();
+	private long itemsCount;
+	private int pagesVersion;
+	private int requestedPage;
+	private ExecutorService defaultPageExecutor;
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -94,6 +114,18 @@ private void initialize() {
 		updateMaxPages();
 
 		currentPageProperty().addListener(invalidated -> goToPage(getCurrentPage()));
+		rowsPerPage.addListener(invalidated -> {
+			if (getPageProvider() != null) {
+				invalidatePages();
+			} else {
+				updateMaxPages();
+			}
+		});
+		pageCacheSize.addListener(invalidated -> pageCache.setCapacity(Math.max(1, getPageCacheSize())));
+		pageProvider.addListener((observable, oldValue, newValue) -> {
+			invalidatePages();
+			if (newValue == null) getItems().clear();
+		});
 	}
 
 	/**
@@ -103,15 +135,161 @@ private void initialize() {
 	 */
 	public void goToPage(int index) {
 		int page = NumberUtils.clamp(index, 1, getMaxPage());
-		double pos = (page - 1) * getRowsPerPage() * rowsFlow.getCellHeight();
-		rowsFlow.getVBar().setValue(pos);
+		if (getPageProvider() != null) {
+			showPage(page);
+			return;
+		}
+
+		rowsFlow.getVBar().setValue(rowOffset((page - 1) * getRowsPerPage()));
+	}
+
+	/**
+	 * Discards the loaded pages and counts the items of the {@link #pageProviderProperty()} again, then shows
+	 * the current page. To be called when the provider's data changed.
+	 * <p>
+	 * Pages being loaded are not interrupted, but their result is discarded.
+	 */
+	public void invalidatePages() {
+		pagesVersion++;
+		pageCache.clear();
+		pendingPages.clear();
+		itemsCount = 0;
+
+		PageProvider<T> provider = getPageProvider();
+		if (provider == null) {
+			loading.set(false);
+			updateMaxPages();
+			return;
+		}
+
+		int version = pagesVersion;
+		loading.set(true);
+		CompletableFuture.supplyAsync(provider::count, getPageExecutorOrDefault())
+				.whenComplete((count, ex) -> Platform.runLater(() -> {
+					if (version != pagesVersion) return;
+					itemsCount = ex == null ? count : 0;
+					updateMaxPages();
+					int page = NumberUtils.clamp(getCurrentPage(), 1, getMaxPage());
+					if (page != getCurrentPage()) {
+						setCurrentPage(page);
+					} else {
+						goToPage(page);
+					}
+				}));
+	}
+
+	/**
+	 * Shows the given page of the {@link #pageProviderProperty()}, by replacing the items with the page's items.
+	 * <p>
+	 * If the page is not in the cache, {@link #pageCacheSizeProperty()}, it is loaded in background and shown when
+	 * loaded, unless another page has been requested in the meantime. The neighbouring pages,
+	 * {@link #prefetchPagesProperty()}, are loaded too.
+	 */
+	protected void showPage(int page) {
+		requestedPage = page;
+		List<T> cached = pageCache.get(page);
+		if (cached != null) {
+			setPageItems(cached);
+		} else {
+			int version = pagesVersion;
+			loading.set(true);
+			loadPage(page).whenComplete((items, ex) -> {
+				if (version != pagesVersion || page != requestedPage) return;
+				setPageItems(ex == null ? items : Collections.emptyList());
+			});
+		}
+
+		for (int i = 1; i <= getPrefetchPages(); i++) {
+			prefetchPage(page - i);
+			prefetchPage(page + i);
+		}
+	}
+
+	/**
+	 * Loads the given page if it is valid and not loaded yet.
+	 */
+	private void prefetchPage(int page) {
+		if (page < 1 || page > getMaxPage() || pageCache.containsKey(page)) return;
+		loadPage(page);
+	}
+
+	/**
+	 * Loads the given page of the {@link #pageProviderProperty()} on the {@link #pageExecutorProperty()}.
+	 * <p>
+	 * The page is added to the cache and the returned future is completed on the JavaFX thread. Requests
+	 * for a page which is already being loaded return the same future.
+	 */
+	protected CompletableFuture<List<T>> loadPage(int page) {
+		CompletableFuture<List<T>> pending = pendingPages.get(page);
+		if (pending != null) return pending;
+
+		PageProvider<T> provider = getPageProvider();
+		int version = pagesVersion;
+		int size = getRowsPerPage();
+		long offset = (long) (page - 1) * size;
+		CompletableFuture<List<T>> future = new CompletableFuture<>();
+		pendingPages.put(page, future);
+		getPageExecutorOrDefault().execute(() -> {
+			try {
+				List<T> loaded = provider.loadPage(offset, size);
+				List<T> items = loaded != null ? Collections.unmodifiableList(loaded) : Collections.emptyList();
+				Platform.runLater(() -> {
+					if (version == pagesVersion) {
+						pendingPages.remove(page, future);
+						pageCache.put(page, items);
+					}
+					future.complete(items);
+				});
+			} catch (Exception ex) {
+				Platform.runLater(() -> {
+					pendingPages.remove(page, future);
+					future.completeExceptionally(ex);
+				});
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Replaces the items with the given page's items.
+	 */
+	private void setPageItems(List<T> items) {
+		loading.set(false);
+		getItems().setAll(items);
+		rowsFlow.getVBar().setValue(0);
+	}
+
+	/**
+	 * @return the {@link #pageExecutorProperty()} or, if null, a lazily built single daemon thread
+	 * which is released when idle
+	 */
+	private Executor getPageExecutorOrDefault() {
+		Executor executor = getPageExecutor();
+		if (executor != null) return executor;
+
+		if (defaultPageExecutor == null) {
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(
+					1, 1, 5, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					r -> {
+						Thread thread = new Thread(r);
+						thread.setDaemon(true);
+						return thread;
+					}
+			);
+			pool.allowCoreThreadTimeOut(true);
+			defaultPageExecutor = pool;
+		}
+		return defaultPageExecutor;
 	}
 
 	/**
 	 * Responsible for updating the max page index when needed.
+	 * <p>
+	 * If a {@link #pageProviderProperty()} is set, the max page is computed from the items count.
 	 */
 	private void updateMaxPages() {
-		int size = getTransformableList().size();
+		long size = getPageProvider() != null ? itemsCount : getTransformableList().size();
 		int rowsPerPage = getRowsPerPage();
 		int max = (int) Math.ceil((double) size / rowsPerPage);
 		setMaxPage(max);
@@ -229,4 +407,88 @@ public IntegerProperty rowsPerPageProperty() {
 	public void setRowsPerPage(int rowsPerPage) {
 		this.rowsPerPage.set(rowsPerPage);
 	}
+
+	public PageProvider<T> getPageProvider() {
+		return pageProvider.get();
+	}
+
+	/**
+	 * Specifies the {@link PageProvider} from which the pages are loaded, so that the whole dataset
+	 * doesn't need to be in memory.
+	 * <p>
+	 * When set, the items list only contains the current page's items, which are replaced when
+	 * changing the page, and the max page is computed from {@link PageProvider#count()}. Note that this means
+	 * that filters and sorting only apply to the current page.
+	 * <p>
+	 * If the provider fails, the page is shown empty.
+	 */
+	public ObjectProperty<PageProvider<T>> pageProviderProperty() {
+		return pageProvider;
+	}
+
+	public void setPageProvider(PageProvider<T> pageProvider) {
+		this.pageProvider.set(pageProvider);
+	}
+
+	public Executor getPageExecutor() {
+		return pageExecutor.get();
+	}
+
+	/**
+	 * Specifies the executor on which the {@link #pageProviderProperty()} is called.
+	 * <p>
+	 * When null, which is the default, a single background thread is used.
+	 */
+	public ObjectProperty<Executor> pageExecutorProperty() {
+		return pageExecutor;
+	}
+
+	public void setPageExecutor(Executor pageExecutor) {
+		this.pageExecutor.set(pageExecutor);
+	}
+
+	public int getPageCacheSize() {
+		return pageCacheSize.get();
+	}
+
+	/**
+	 * Specifies the max number of pages of the {@link #pageProviderProperty()} kept in memory,
+	 * the least recently used are discarded.
+	 * <p>
+	 * Should be greater than the pages loaded at a time, see {@link #prefetchPagesProperty()}.
+	 */
+	public IntegerProperty pageCacheSizeProperty() {
+		return pageCacheSize;
+	}
+
+	public void setPageCacheSize(int pageCacheSize) {
+		this.pageCacheSize.set(pageCacheSize);
+	}
+
+	public int getPrefetchPages() {
+		return prefetchPages.get();
+	}
+
+	/**
+	 * Specifies how many pages before and after the shown one are loaded in advance
+	 * from the {@link #pageProviderProperty()}.
+	 */
+	public IntegerProperty prefetchPagesProperty() {
+		return prefetchPages;
+	}
+
+	public void setPrefetchPages(int prefetchPages) {
+		this.prefetchPages.set(prefetchPages);
+	}
+
+	public boolean isLoading() {
+		return loading.get();
+	}
+
+	/**
+	 * Specifies whether the page to show is being loaded from the {@link #pageProviderProperty()}.
+	 */
+	public ReadOnlyBooleanProperty loadingProperty() {
+		return loading.getReadOnlyProperty();
+	}
 }
@@ -21,6 +21,7 @@
 import io.github.palexdev.materialfx.MFXResourcesLoader;
 import io.github.palexdev.materialfx.beans.properties.functional.ComparatorProperty;
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
+import io.github.palexdev.materialfx.collections.SortKey;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
 import io.github.palexdev.materialfx.enums.SortState;
 import io.github.palexdev.materialfx.skins.MFXTableColumnSkin;
@@ -37,6 +38,8 @@
 
 import java.util.Comparator;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
 
 /**
  * This is the implementation of the column cells used in the {@link MFXTableView} control.
@@ -99,16 +102,17 @@ public void set(SortState newValue) {
 		protected void invalidated() {
 			SortState sortState = getSortState();
 			Comparator<T> comparator = (sortState == SortState.DESCENDING) ? getComparator().reversed() : getComparator();
-			fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, MFXTableColumn.this, comparator, sortState));
+			fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, MFXTableColumn.this, comparator, sortState, additiveSort));
 		}
 	};
+	private boolean additiveSort = false;
 
 	private final ComparatorProperty<T> comparator = new ComparatorProperty<>() {
 		@Override
 		protected void invalidated() {
 			SortState sortState = getSortState();
 			Comparator<T> comparator = (sortState == SortState.DESCENDING) ? getComparator().reversed() : getComparator();
-			fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, MFXTableColumn.this, comparator, sortState));
+			fireEvent(new MFXTableColumnEvent<>(MFXTableColumnEvent.SORTING_EVENT, MFXTableColumn.this, comparator, sortState, true));
 		}
 	};
 
@@ -164,7 +168,12 @@ private void initialize() {
 
 		addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
 			if (getComparator() == null || event.getButton() != MouseButton.PRIMARY) return;
-			setSortState(getSortState().next());
+			additiveSort = event.isShiftDown();
+			try {
+				setSortState(getSortState().next());
+			} finally {
+				additiveSort = false;
+			}
 		});
 	}
 
@@ -220,6 +229,10 @@ public Comparator<T> getComparator() {
 
 	/**
 	 * Specifies the {@link Comparator} used to sort the column.
+	 * <p>
+	 * When sorting, a plain comparator, for example one built with {@link Comparator#comparing(Function)}, extracts the
+	 * compared values at each comparison. Prefer {@link #setSortKey(Function)} and its variants, which extract them
+	 * once per row, also when the table is sorted by multiple columns.
 	 */
 	public ComparatorProperty<T> comparatorProperty() {
 		return comparator;
@@ -229,6 +242,37 @@ public void setComparator(Comparator<T> comparator) {
 		this.comparator.set(comparator);
 	}
 
+	/**
+	 * Sets the column's comparator to a {@link SortKey} which compares the {@link Comparable} keys
+	 * extracted by the given function.
+	 * <p>
+	 * This way the table extracts the keys only once per row when sorting, and can
+	 * reverse the order without extracting them again.
+	 */
+	public <U extends Comparable<? super U>> void setSortKey(Function<? super T, ? extends U> extractor) {
+		setComparator(SortKey.of(extractor));
+	}
+
+	/**
+	 * Sets the column's comparator to a {@link SortKey} which compares the int keys
+	 * extracted by the given function.
+	 *
+	 * @see #setSortKey(Function)
+	 */
+	public void setSortKeyInt(ToIntFunction<? super T> extractor) {
+		setComparator(SortKey.ofInt(extractor));
+	}
+
+	/**
+	 * Sets the column's comparator to a {@link SortKey} which compares the double keys
+	 * extracted by the given function.
+	 *
+	 * @see #setSortKey(Function)
+	 */
+	public void setSortKeyDouble(ToDoubleFunction<? super T> extractor) {
+		setComparator(SortKey.ofDouble(extractor));
+	}
+
 	public boolean isDragged() {
 		return dragged.get();
 	}
@@ -265,21 +309,29 @@ public void setColumnResizable(boolean columnResizable) {
 
 	/**
 	 * This class introduces new {@link Event}s for {@link  MFXTableColumn}s, such as:
-	 * <p> - SORTING_EVENT: this event is used to tell the table view skin that the column is being sorted
+	 * <p> - SORTING_EVENT: this event is used to tell the table view skin that the column is being sorted. The event is
+	 * additive, {@link #isAdditive()}, when the other columns should keep their sort state, e.g. on shift-click or when
+	 * the column's comparator changes
 	 */
 	@SuppressWarnings("rawtypes")
 	public static class MFXTableColumnEvent<T> extends Event {
 		private final MFXTableColumn<T> column;
 		private final Comparator<T> comparator;
 		private final SortState sortState;
+		private final boolean additive;
 
 		public static final EventType<? extends MFXTableColumnEvent> SORTING_EVENT = new EventType<>(ANY, "SORTING_EVENT");
 
 		public MFXTableColumnEvent(EventType<? extends Event> eventType, MFXTableColumn<T> column, Comparator<T> comparator, SortState sortState) {
+			this(eventType, column, comparator, sortState, false);
+		}
+
+		public MFXTableColumnEvent(EventType<? extends Event> eventType, MFXTableColumn<T> column, Comparator<T> comparator, SortState sortState, boolean additive) {
 			super(eventType);
 			this.column = column;
 			this.comparator = comparator;
 			this.sortState = sortState;
+			this.additive = additive;
 		}
 
 		public MFXTableColumn<T> getColumn() {
@@ -293,5 +345,9 @@ public Comparator<T> getComparator() {
 		public SortState getSortState() {
 			return sortState;
 		}
+
+		public boolean isAdditive() {
+			return additive;
+		}
 	}
 }
@@ -22,9 +22,13 @@
 import io.github.palexdev.materialfx.beans.PositionBean;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
 import io.github.palexdev.materialfx.effects.ripple.MFXCircleRippleGenerator;
+import io.github.palexdev.materialfx.effects.ripple.MFXSharedRippleGenerator;
+import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
+import io.github.palexdev.virtualizedfx.beans.NumberRange;
 import io.github.palexdev.virtualizedfx.cell.Cell;
 import io.github.palexdev.virtualizedfx.flow.simple.SimpleVirtualFlow;
-import javafx.beans.binding.Bindings;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -33,9 +37,11 @@
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * This is the HBox that contains the table row cells built by each column.
@@ -47,6 +53,12 @@
  * {@link MFXTableRowCell} though, are not reusable {@link Cell}s. So, to keep things efficient table rows
  * now build the cells only once (or when needed by the table view) and simply updates them when the {@link #dataProperty()} changes,
  * by using {@link #updateCells(Object)}. This mechanism should also simplify working with non JavaFX models (which do not use observables).
+ * <p>
+ * When the table's columns change, only the cells of the added and removed columns are affected, see {@link #updateColumns()}.
+ * <p>
+ * Cells are built only for the columns in {@link MFXTableView#columnsRangeProperty()}, the space of the other columns
+ * is filled by two spacers, one before and one after the cells. As the table is scrolled horizontally the cells of the
+ * columns leaving the range are pooled and reused when the columns enter it again.
  */
 public class MFXTableRow<T> extends HBox implements Cell<T> {
 	//================================================================================
@@ -57,23 +69,37 @@
 
 	private final MFXTableView<T> tableView;
 	private final ObservableList<MFXTableRowCell<T, ?>> cells = FXCollections.observableArrayList();
+	private final Map<MFXTableColumn<T>, MFXTableRowCell<T, ?>> cellsByColumn = new HashMap<>();
+	private final Map<MFXTableColumn<T>, MFXTableRowCell<T, ?>> cellsPool = new WeakHashMap<>();
+	private final Map<MFXTableColumn<T>, WeakReference<Function<T, MFXTableRowCell<T, ?>>>> cellFactories = new WeakHashMap<>();
+	private final Region leadingSpacer = new Region();
+	private final Region trailingSpacer = new Region();
 	private final ReadOnlyIntegerWrapper index = new ReadOnlyIntegerWrapper();
 	private final ReadOnlyObjectWrapper<T> data = new ReadOnlyObjectWrapper<>();
 
-	protected final MFXCircleRippleGenerator rippleGenerator = new MFXCircleRippleGenerator(this);
+	protected final MFXCircleRippleGenerator rippleGenerator;
 
 	private final ReadOnlyBooleanWrapper selected = new ReadOnlyBooleanWrapper();
 	protected static final PseudoClass SELECTED_PSEUDO_CLASS = PseudoClass.getPseudoClass("selected");
+	private final ReadOnlyBooleanWrapper placeholder = new ReadOnlyBooleanWrapper();
+	protected static final PseudoClass PLACEHOLDER_PSEUDO_CLASS = PseudoClass.getPseudoClass("placeholder");
+	private final InvalidationListener selectionListener = invalidated -> updateSelected();
+	private final WeakInvalidationListener weakSelectionListener = new WeakInvalidationListener(selectionListener);
 
 	//================================================================================
 	// Constructors
 	//================================================================================
 	public MFXTableRow(MFXTableView<T> tableView, T data) {
 		this.tableView = tableView;
+		this.rippleGenerator = tableView.isSharedRipple() ? tableView.getSharedRippleGenerator() : new MFXCircleRippleGenerator(this);
 		setData(data);
-		setMinHeight(USE_PREF_SIZE);
-		setPrefHeight(32);
-		setMaxHeight(USE_PREF_SIZE);
+		if (tableView.isVariableRowHeights()) {
+			setMinHeight(32);
+		} else {
+			setMinHeight(USE_PREF_SIZE);
+			setPrefHeight(32);
+			setMaxHeight(USE_PREF_SIZE);
+		}
 		initialize();
 		buildCells();
 	}
@@ -83,6 +109,10 @@ public MFXTableRow(MFXTableView<T> tableView, T data) {
 	//================================================================================
 	private void initialize() {
 		getStyleClass().add(STYLE_CLASS);
+		for (Region spacer : List.of(leadingSpacer, trailingSpacer)) {
+			spacer.setMinWidth(USE_PREF_SIZE);
+			spacer.setMaxWidth(USE_PREF_SIZE);
+		}
 
 		setBehavior();
 		setupRippleGenerator();
@@ -90,26 +120,46 @@ private void initialize() {
 
 	/**
 	 * Adds the needed listeners/handlers to manage the selection state.
+	 * <p>
+	 * The row listens only to the selection state of its own index, see
+	 * {@link IMultipleSelectionModel#addIndexListener(int, InvalidationListener)}, and moves
+	 * the listener when the index changes.
 	 *
 	 * @see #updateSelection(MouseEvent).
 	 */
 	private void setBehavior() {
+		IMultipleSelectionModel<T> selectionModel = tableView.getSelectionModel();
 		selected.addListener(invalidated -> pseudoClassStateChanged(SELECTED_PSEUDO_CLASS, selected.get()));
-		selected.bind(Bindings.createBooleanBinding(
-				() -> tableView.getSelectionModel().getSelection().containsKey(getIndex()),
-				tableView.getSelectionModel().selectionProperty(), index
-		));
+		placeholder.addListener(invalidated -> pseudoClassStateChanged(PLACEHOLDER_PSEUDO_CLASS, placeholder.get()));
+		selectionModel.addIndexListener(getIndex(), weakSelectionListener);
+		index.addListener((observable, oldValue, newValue) -> {
+			selectionModel.removeIndexListener(oldValue.intValue(), weakSelectionListener);
+			selectionModel.addIndexListener(newValue.intValue(), weakSelectionListener);
+			updateSelected();
+		});
+		updateSelected();
 
 		addEventFilter(MouseEvent.MOUSE_CLICKED, this::updateSelection);
 	}
 
+	/**
+	 * Updates the selected property by checking if the row's index is in the selection.
+	 */
+	protected void updateSelected() {
+		setSelected(tableView.getSelectionModel().getSelection().containsKey(getIndex()));
+	}
+
 	/**
 	 * Initializes the ripple generator.
+	 * <p>
+	 * The properties of the shared generator, see {@link #isSharedRipple()}, are left untouched.
 	 */
 	protected void setupRippleGenerator() {
-		rippleGenerator.setManaged(false);
-		rippleGenerator.setRipplePositionFunction(event -> PositionBean.of(event.getX(), event.getY()));
-		rippleGenerator.rippleRadiusProperty().bind(widthProperty().divide(2.0));
+		if (!isSharedRipple()) {
+			rippleGenerator.setManaged(false);
+			rippleGenerator.setRipplePositionFunction(event -> PositionBean.of(event.getX(), event.getY()));
+			rippleGenerator.rippleRadiusProperty().bind(widthProperty().divide(2.0));
+		}
 		addEventFilter(MouseEvent.MOUSE_CLICKED, event -> {
 			if (event.getButton() == MouseButton.PRIMARY) {
 				rippleGenerator.generateRipple(event);
@@ -117,6 +167,13 @@ protected void setupRippleGenerator() {
 		});
 	}
 
+	/**
+	 * @return whether the cell uses the table's shared ripple generator rather than its own
+	 */
+	protected boolean isSharedRipple() {
+		return rippleGenerator instanceof MFXSharedRippleGenerator;
+	}
+
 	/**
 	 * Public API to update the row's cells.
 	 * <p>
@@ -135,6 +192,7 @@ public void updateRow() {
 	 * if not yet done, {@link #buildCells()}.
 	 */
 	protected void updateRow(T data) {
+		setPlaceholder(false);
 		if (cells.isEmpty()) {
 			buildCells();
 		} else {
@@ -143,19 +201,44 @@ protected void updateRow(T data) {
 	}
 
 	/**
-	 * Responsible for updating the row cells by calling {@link MFXTableRowCell#update(Object)}.
+	 * If the row is showing a placeholder, {@link #isPlaceholder()}, updates the cells with {@link #updateRow()}.
+	 */
+	public void resolvePlaceholder() {
+		if (isPlaceholder()) updateRow();
+	}
+
+	/**
+	 * Responsible for updating the row cells by calling {@link #updateCell(MFXTableColumn, MFXTableRowCell, Object)}.
 	 */
 	protected void updateCells(T data) {
-		cells.forEach(cell -> cell.update(data));
+		cellsByColumn.forEach((column, cell) -> updateCell(column, cell, data));
+	}
+
+	/**
+	 * Updates the given cell of the given column with the given data.
+	 * <p>
+	 * The text is taken from the table's text cache when possible, see {@link MFXTableView#textCacheSizeProperty()},
+	 * otherwise {@link MFXTableRowCell#update(Object)} is called.
+	 */
+	protected void updateCell(MFXTableColumn<T> column, MFXTableRowCell<T, ?> cell, T data) {
+		String text = tableView.getCellText(column, cell, data);
+		if (text != null) {
+			cell.setText(text);
+		} else {
+			cell.update(data);
+		}
 	}
 
 	/**
 	 * Responsible for building the row's cells when needed.
 	 * <p>
-	 * For each column specified by the table view, {@link MFXTableView#getTableColumns()}, retrieves the
+	 * For each column materialized by the table view, {@link #getMaterializedColumns()}, retrieves the
 	 * {@link MFXTableColumn#rowCellFactoryProperty()}, build the cell with the row's data, {@link #dataProperty()},
-	 * updates the cell, {@link MFXTableRowCell#update(Object)}, then adds to the list.
+	 * updates the cell, {@link #updateCell(MFXTableColumn, MFXTableRowCell, Object)}, then adds to the list.
 	 * At the end calls {@link #updateChildren(List)} with the built cells list.
+	 * <p>
+	 * All the cells are built from scratch, the pooled ones are discarded too. When the columns change,
+	 * {@link #updateColumns()} should be preferred.
 	 * <p></p>
 	 * If the row's data is null, exits immediately.
 	 */
@@ -164,22 +247,188 @@ public void buildCells() {
 		if (data == null) return;
 
 		if (!cells.isEmpty()) cells.clear();
-		ObservableList<MFXTableColumn<T>> columns = tableView.getTableColumns();
+		cellsByColumn.clear();
+		cellsPool.clear();
+		cellFactories.clear();
+		List<MFXTableColumn<T>> columns = getMaterializedColumns();
 		for (MFXTableColumn<T> column : columns) {
 			MFXTableRowCell<T, ?> cell = column.getRowCellFactory().apply(data);
-			cell.update(data);
+			updateCell(column, cell, data);
 			cells.add(cell);
+			cellsByColumn.put(column, cell);
+			cellFactories.put(column, new WeakReference<>(column.getRowCellFactory()));
 		}
+		updateSpacers();
 		updateChildren(cells);
 	}
 
+	/**
+	 * Responsible for updating the row's cells when the table's columns change, {@link MFXTableView#getTableColumns()},
+	 * or when the materialized range changes, {@link MFXTableView#columnsRangeProperty()}.
+	 * <p>
+	 * The new columns are compared with the ones for which the cells were built:
+	 * <p> - the cells of the columns still present are kept as they are
+	 * <p> - the cells of the removed columns, or of the columns out of the range, are removed from the row and put in a pool,
+	 * so that if the column is added again (for example a column that is hidden and shown, or scrolled out and back in the viewport)
+	 * the cell is reused rather than built again. The pool holds at most as many cells as the row, the others are discarded
+	 * <p> - for the added columns, the cells are taken from the pool or built with the column's factory
+	 * <p> - cells built by a factory which is not the column's current one are built again
+	 * <p>
+	 * Then the children are updated with the minimum number of operations: removed cells are removed, added cells are
+	 * appended and, only if the order changed, the cells from the first misplaced one onwards are moved with
+	 * {@link Node#toFront()}, which the parent handles as a permutation so the cells are not detached from the scene.
+	 * <p></p>
+	 * If the cells have not been built yet, calls {@link #buildCells()}.
+	 */
+	public void updateColumns() {
+		T data = getData();
+		if (data == null) return;
+		if (cells.isEmpty()) {
+			buildCells();
+			return;
+		}
+
+		List<MFXTableColumn<T>> columns = getMaterializedColumns();
+		Map<MFXTableColumn<T>, MFXTableRowCell<T, ?>> oldCells = new HashMap<>(cellsByColumn);
+		List<MFXTableRowCell<T, ?>> newCells = new ArrayList<>(columns.size());
+		List<MFXTableRowCell<T, ?>> added = new ArrayList<>();
+		List<MFXTableRowCell<T, ?>> removed = new ArrayList<>();
+		cellsByColumn.clear();
+		for (MFXTableColumn<T> column : columns) {
+			WeakReference<Function<T, MFXTableRowCell<T, ?>>> factory = cellFactories.get(column);
+			boolean upToDate = factory != null && factory.get() == column.getRowCellFactory();
+			MFXTableRowCell<T, ?> cell = oldCells.remove(column);
+			if (cell != null && !upToDate) {
+				removed.add(cell);
+				cell = null;
+			}
+			if (cell == null) {
+				MFXTableRowCell<T, ?> pooled = cellsPool.remove(column);
+				if (pooled != null && upToDate) {
+					cell = pooled;
+					cell.prefWidthProperty().bind(column.widthProperty());
+				} else {
+					cell = column.getRowCellFactory().apply(data);
+					cellFactories.put(column, new WeakReference<>(column.getRowCellFactory()));
+				}
+				updateCell(column, cell, data);
+				added.add(cell);
+			}
+			newCells.add(cell);
+			cellsByColumn.put(column, cell);
+		}
+
+		// The cells of the removed columns are unbound, so that pooled cells do not keep the columns alive
+		oldCells.forEach((column, cell) -> {
+			cell.prefWidthProperty().unbind();
+			cellsPool.put(column, cell);
+			removed.add(cell);
+		});
+		if (!removed.isEmpty()) getChildren().removeAll(removed);
+		if (!added.isEmpty()) getChildren().addAll(added);
+
+		List<Node> children = getChildren();
+		int offset = children.indexOf(leadingSpacer) + 1;
+		int firstMisplaced = 0;
+		while (firstMisplaced < newCells.size() && children.get(offset + firstMisplaced) == newCells.get(firstMisplaced)) {
+			firstMisplaced++;
+		}
+		for (int i = firstMisplaced; i < newCells.size(); i++) {
+			newCells.get(i).toFront();
+		}
+		if (children.get(children.size() - 1) != trailingSpacer) trailingSpacer.toFront();
+		cells.setAll(newCells);
+		updateSpacers();
+		trimPool();
+	}
+
+	/**
+	 * Computes the width at which the cell of the given column is not truncated, by using {@link MFXTableRowCell#computePrefWidth(double)}.
+	 * <p>
+	 * If the column is not materialized, the cell is taken from the pool or built, briefly added to the row
+	 * (unmanaged) to apply the CSS, measured and then put in the pool, so that it is ready when the column enters the range.
+	 *
+	 * @return the computed width or -1 if the row's data is null
+	 */
+	public double computeCellWidth(MFXTableColumn<T> column) {
+		return measureCell(column, cell -> cell.computePrefWidth(-1), -1.0);
+	}
+
+	/**
+	 * Applies the given function to the cell of the given column once its CSS has been applied,
+	 * as described by {@link #computeCellWidth(MFXTableColumn)}.
+	 *
+	 * @return the function's result or the given fallback if the row's data is null
+	 */
+	protected <R> R measureCell(MFXTableColumn<T> column, Function<MFXTableRowCell<T, ?>, R> function, R fallback) {
+		MFXTableRowCell<T, ?> cell = cellsByColumn.get(column);
+		if (cell != null) {
+			cell.requestLayout();
+			return function.apply(cell);
+		}
+
+		T data = getData();
+		if (data == null) return fallback;
+
+		WeakReference<Function<T, MFXTableRowCell<T, ?>>> factory = cellFactories.get(column);
+		cell = cellsPool.remove(column);
+		if (cell == null || factory == null || factory.get() != column.getRowCellFactory()) {
+			cell = column.getRowCellFactory().apply(data);
+			cell.prefWidthProperty().unbind();
+			cellFactories.put(column, new WeakReference<>(column.getRowCellFactory()));
+		}
+		updateCell(column, cell, data);
+		cell.setManaged(false);
+		getChildren().add(cell);
+		cell.applyCss();
+		R result = function.apply(cell);
+		getChildren().remove(cell);
+		cell.setManaged(true);
+		cellsPool.put(column, cell);
+		trimPool();
+		return result;
+	}
+
+	/**
+	 * @return the columns materialized by the table view, {@link MFXTableView#columnsRangeProperty()}
+	 */
+	protected List<MFXTableColumn<T>> getMaterializedColumns() {
+		ObservableList<MFXTableColumn<T>> columns = tableView.getTableColumns();
+		NumberRange<Integer> range = tableView.getColumnsRange();
+		int from = Math.max(0, range.getMin());
+		int to = Math.min(columns.size(), range.getMax() + 1);
+		return from < to ? columns.subList(from, to) : List.of();
+	}
+
+	/**
+	 * Sizes the spacers to the width of the columns before and after the range,
+	 * {@link MFXTableView#getLeadingColumnsWidth()}, {@link MFXTableView#getTrailingColumnsWidth()}.
+	 */
+	private void updateSpacers() {
+		leadingSpacer.setPrefWidth(tableView.getLeadingColumnsWidth());
+		trailingSpacer.setPrefWidth(tableView.getTrailingColumnsWidth());
+	}
+
+	/**
+	 * Discards pooled cells until the pool is not bigger than the row's cells.
+	 */
+	private void trimPool() {
+		Iterator<MFXTableColumn<T>> iterator = cellsPool.keySet().iterator();
+		while (cellsPool.size() > cells.size() && iterator.hasNext()) {
+			cellFactories.remove(iterator.next());
+			iterator.remove();
+		}
+	}
+
 	/**
 	 * Responsible for populating the row with the given children list.
-	 * Since the row also has a ripple generator, this is added at the start of the given list.
+	 * Since the row also has the spacers and a ripple generator (unless shared), these are added at the start and at the end of the given list.
 	 */
 	private void updateChildren(List<MFXTableRowCell<T, ?>> children) {
 		List<Node> finalList = new LinkedList<>(children);
-		finalList.add(0, rippleGenerator);
+		finalList.add(0, leadingSpacer);
+		if (!isSharedRipple()) finalList.add(0, rippleGenerator);
+		finalList.add(trailingSpacer);
 		getChildren().setAll(finalList);
 	}
 
@@ -213,14 +462,35 @@ private void updateSelection(MouseEvent event) {
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Since the table's virtual flow doesn't fit the rows to its width, to allow horizontal scrolling,
+	 * the rows are at least as wide as the virtual flow.
+	 */
+	@Override
+	protected double computePrefWidth(double height) {
+		return Math.max(super.computePrefWidth(height), tableView.rowsFlow.getWidth());
+	}
+
 	@Override
 	public Node getNode() {
 		return this;
 	}
 
+	/**
+	 * Updates the data property of the row, then the cells with {@link #updateRow(Object)}.
+	 * <p>
+	 * While the table is scrolled fast, {@link MFXTableView#isFastScrolling()}, the cells are not updated,
+	 * and the row shows a placeholder instead, see {@link #isPlaceholder()}.
+	 */
 	@Override
 	public void updateItem(T data) {
 		setData(data);
+		if (tableView.isFastScrolling() && !cells.isEmpty()) {
+			setPlaceholder(true);
+			return;
+		}
 		updateRow(data);
 	}
 
@@ -229,6 +499,14 @@ public void updateIndex(int index) {
 		setIndex(tableView.getTransformableList().viewToSource(index));
 	}
 
+	/**
+	 * Stops listening to the selection state of the row's index.
+	 */
+	@Override
+	public void dispose() {
+		tableView.getSelectionModel().removeIndexListener(getIndex(), weakSelectionListener);
+	}
+
 	@Override
 	public String getUserAgentStylesheet() {
 		return STYLESHEET;
@@ -239,12 +517,38 @@ public String getUserAgentStylesheet() {
 	//================================================================================
 
 	/**
-	 * @return the row's cells as an unmodifiable observable list
+	 * @return the cells of the materialized columns as an unmodifiable observable list
 	 */
 	public ObservableList<MFXTableRowCell<T, ?>> getCells() {
 		return FXCollections.unmodifiableObservableList(cells);
 	}
 
+	/**
+	 * @return the cell built for the given column, or null if the column is not materialized
+	 */
+	public MFXTableRowCell<T, ?> getCell(MFXTableColumn<T> column) {
+		return cellsByColumn.get(column);
+	}
+
+	public boolean isPlaceholder() {
+		return placeholder.get();
+	}
+
+	/**
+	 * Specifies whether the row's cells are out of date because the row has been updated
+	 * during fast scrolling, see {@link MFXTableView#fastScrollThresholdProperty()}.
+	 * <p>
+	 * The row has the ":placeholder" PseudoClass in this state, by default the cells are hidden
+	 * and a skeleton bar is shown instead.
+	 */
+	public ReadOnlyBooleanProperty placeholderProperty() {
+		return placeholder.getReadOnlyProperty();
+	}
+
+	protected void setPlaceholder(boolean placeholder) {
+		this.placeholder.set(placeholder);
+	}
+
 	public int getIndex() {
 		return index.get();
 	}
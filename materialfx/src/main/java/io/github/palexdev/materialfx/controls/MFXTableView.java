@@ -20,18 +20,30 @@
 
 import io.github.palexdev.materialfx.MFXResourcesLoader;
 import io.github.palexdev.materialfx.beans.properties.functional.FunctionProperty;
+import io.github.palexdev.materialfx.collections.LRUCache;
+import io.github.palexdev.materialfx.collections.ListDiff;
+import io.github.palexdev.materialfx.collections.SortKey;
 import io.github.palexdev.materialfx.collections.TransformableList;
 import io.github.palexdev.materialfx.collections.TransformableListWrapper;
+import io.github.palexdev.materialfx.controls.MFXTableColumn.MFXTableColumnEvent;
 import io.github.palexdev.materialfx.controls.cell.MFXTableRowCell;
+import io.github.palexdev.materialfx.effects.ripple.MFXSharedRippleGenerator;
+import io.github.palexdev.materialfx.enums.SortState;
 import io.github.palexdev.materialfx.filter.base.AbstractFilter;
+import io.github.palexdev.materialfx.layout.VariableHeightFlow;
 import io.github.palexdev.materialfx.selection.MultipleSelectionModel;
 import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
 import io.github.palexdev.materialfx.skins.MFXTableViewSkin;
 import io.github.palexdev.materialfx.utils.ListChangeProcessor;
+import io.github.palexdev.materialfx.utils.others.ChannelTextWriter;
+import io.github.palexdev.materialfx.utils.others.FastScrollDetector;
+import io.github.palexdev.materialfx.utils.others.FontMetricsCache;
 import io.github.palexdev.materialfx.utils.others.observables.When;
 import io.github.palexdev.virtualizedfx.beans.NumberRange;
 import io.github.palexdev.virtualizedfx.flow.simple.SimpleVirtualFlow;
 import io.github.palexdev.virtualizedfx.utils.ListChangeHelper;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
@@ -39,17 +51,26 @@
 import javafx.collections.ObservableList;
 import javafx.geometry.Orientation;
 import javafx.scene.control.Control;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.Skin;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
 
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 
 /**
  * This is the implementation of a table view following Google's material design guidelines in JavaFX.
  * <p>
  * Extends {@code Control} and provides a new skin since it is built from scratch.
+ * <p>
+ * Rows are virtualized vertically by a {@link SimpleVirtualFlow}, and columns are virtualized horizontally: only the columns
+ * in the {@link #columnsRangeProperty()} are materialized in the rows and in the header.
  *
  * @param <T> The type of the data within the table.
  * @see MFXTableViewSkin
@@ -61,20 +82,68 @@
 	private final String STYLE_CLASS = "mfx-table-view";
 	private final String STYLESHEET = MFXResourcesLoader.load("css/MFXTableView.css");
 	protected final SimpleVirtualFlow<T, MFXTableRow<T>> rowsFlow;
+	private final boolean variableRowHeights;
 	protected final ReadOnlyBooleanWrapper virtualFlowInitialized = new ReadOnlyBooleanWrapper();
+	private final FastScrollDetector fastScrollDetector = new FastScrollDetector();
 
 	private final ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>();
 	private final ListChangeListener<? super T> itemsChanged = this::itemsChanged;
+	private boolean itemsDiffing = false;
 
 	private final IMultipleSelectionModel<T> selectionModel = new MultipleSelectionModel<>(items);
 	private final ObservableList<MFXTableColumn<T>> tableColumns = FXCollections.observableArrayList();
 	private final FunctionProperty<T, MFXTableRow<T>> tableRowFactory = new FunctionProperty<>(item -> new MFXTableRow<>(this, item));
 
-	private final TransformableListWrapper<T> transformableList = new TransformableListWrapper<>(FXCollections.observableArrayList());
+	private final ListProperty<T> itemsView = new SimpleListProperty<>();
+	private final TransformableListWrapper<T> transformableList = new TransformableListWrapper<>(itemsView);
 	private final ObservableList<AbstractFilter<T, ?>> filters = FXCollections.observableArrayList();
-	private final InvalidationListener itemsInvalid = invalidated -> transformableList.setAll(getItems());
+	private final ObservableList<MFXTableColumn<T>> sortOrder = FXCollections.observableArrayList();
+	private boolean sorting = false;
 	private final BooleanProperty footerVisible = new SimpleBooleanProperty(true);
 
+	private final IntegerProperty columnsOverscan = new SimpleIntegerProperty(2);
+	private final ReadOnlyObjectWrapper<NumberRange<Integer>> columnsRange = new ReadOnlyObjectWrapper<>(NumberRange.of(0, -1));
+	private final InvalidationListener columnsRangeInvalidated = invalidated -> updateColumnsRange();
+	private double leadingColumnsWidth;
+	private double trailingColumnsWidth;
+
+	private final BooleanProperty sharedRipple = new SimpleBooleanProperty(false);
+	private MFXSharedRippleGenerator sharedRippleGenerator;
+
+	private final IntegerProperty textCacheSize = new SimpleIntegerProperty(0);
+	private final FunctionProperty<T, Object> itemVersionFunction = new FunctionProperty<>();
+	private LRUCache<TextCacheKey, TextCacheEntry> textCache;
+
+	private static final int AUTOSIZE_CANDIDATES = 16;
+	private final Map<MFXTableColumn<T>, CompletableFuture<Double>> autosizeTasks = new HashMap<>();
+	private ExecutorService autosizeExecutor;
+
+	private static final int EXPORT_CHUNK_SIZE = 4096;
+	private ExecutorService exportExecutor;
+	private int exportsRunning = 0;
+
+	private final IntegerProperty maxRows = new SimpleIntegerProperty(0);
+	private final BooleanProperty autoScrollToTail = new SimpleBooleanProperty(false);
+	private final Queue<T> appendBuffer = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean appendScheduled = new AtomicBoolean(false);
+	private final AnimationTimer appendDrainer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			if (exportsRunning > 0) {
+				stop();
+				return;
+			}
+			if (!appendBuffer.isEmpty()) {
+				drainAppended();
+				return;
+			}
+
+			stop();
+			appendScheduled.set(false);
+			if (!appendBuffer.isEmpty()) scheduleDrain();
+		}
+	};
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -83,18 +152,40 @@ public MFXTableView() {
 	}
 
 	public MFXTableView(ObservableList<T> items) {
+		this(items, false);
+	}
+
+	/**
+	 * Builds a table view whose rows can have different heights, for example rows with wrapped multi-line text,
+	 * when variableRowHeights is true. In such case the rows are laid out by a {@link VariableHeightFlow}.
+	 */
+	public MFXTableView(ObservableList<T> items, boolean variableRowHeights) {
 		setItems(items);
-		rowsFlow = new SimpleVirtualFlow<>(
-				transformableList,
-				getTableRowFactory(),
-				Orientation.VERTICAL
-		) {
-			@Override
-			public String getUserAgentStylesheet() {
-				return MFXTableView.this.getUserAgentStylesheet();
-			}
-		};
+		this.variableRowHeights = variableRowHeights;
+		if (variableRowHeights) {
+			rowsFlow = new VariableHeightFlow<>(
+					transformableList,
+					getTableRowFactory()
+			) {
+				@Override
+				public String getUserAgentStylesheet() {
+					return MFXTableView.this.getUserAgentStylesheet();
+				}
+			};
+		} else {
+			rowsFlow = new SimpleVirtualFlow<>(
+					transformableList,
+					getTableRowFactory(),
+					Orientation.VERTICAL
+			) {
+				@Override
+				public String getUserAgentStylesheet() {
+					return MFXTableView.this.getUserAgentStylesheet();
+				}
+			};
+		}
 		rowsFlow.cellFactoryProperty().bind(tableRowFactoryProperty());
+		rowsFlow.setFitToWidth(false);
 		VBox.setVgrow(rowsFlow, Priority.ALWAYS);
 
 		initialize();
@@ -106,21 +197,181 @@ public String getUserAgentStylesheet() {
 	private void initialize() {
 		getStyleClass().add(STYLE_CLASS);
 
-		transformableList.setAll(getItems());
+		itemsView.bind(itemsProperty());
 		itemsProperty().addListener((observable, oldValue, newValue) -> {
-			if (oldValue != null) {
-				oldValue.removeListener(itemsChanged);
-				oldValue.removeListener(itemsInvalid);
+			if (oldValue != null) oldValue.removeListener(itemsChanged);
+			if (newValue != null) newValue.addListener(itemsChanged);
+		});
+
+		getItems().addListener(itemsChanged);
+
+		textCacheSize.addListener((observable, oldValue, newValue) -> {
+			int size = newValue.intValue();
+			if (size <= 0) {
+				textCache = null;
+			} else if (textCache == null) {
+				textCache = new LRUCache<>(size);
+			} else {
+				textCache.setCapacity(size);
 			}
-			if (newValue != null) {
-				newValue.addListener(itemsChanged);
-				newValue.addListener(itemsInvalid);
-				transformableList.setAll(newValue);
+		});
+		maxRows.addListener(invalidated -> appendRows(Collections.emptyList()));
+
+		rowsFlow.horizontalPositionProperty().addListener(columnsRangeInvalidated);
+		rowsFlow.widthProperty().addListener(columnsRangeInvalidated);
+		columnsOverscan.addListener(columnsRangeInvalidated);
+		tableColumns.addListener((ListChangeListener<? super MFXTableColumn<T>>) change -> {
+			while (change.next()) {
+				for (MFXTableColumn<T> column : change.getRemoved()) {
+					column.widthProperty().removeListener(columnsRangeInvalidated);
+					column.minWidthProperty().removeListener(columnsRangeInvalidated);
+				}
+				for (MFXTableColumn<T> column : change.getAddedSubList()) {
+					column.widthProperty().addListener(columnsRangeInvalidated);
+					column.minWidthProperty().addListener(columnsRangeInvalidated);
+				}
+				sortOrder.removeAll(change.getRemoved());
 			}
+			updateColumnsRange();
 		});
+		sortOrder.addListener((InvalidationListener) invalidated -> {
+			if (!sorting) applySortOrder();
+		});
+		fastScrollDetector.track(rowsFlow.verticalPositionProperty());
+		fastScrollDetector.fastScrollingProperty().addListener((observable, oldValue, newValue) -> {
+			if (!newValue) rowsFlow.getCells().values().forEach(MFXTableRow::resolvePlaceholder);
+		});
+	}
 
-		getItems().addListener(itemsChanged);
-		getItems().addListener(itemsInvalid);
+	/**
+	 * Responsible for computing the {@link #columnsRangeProperty()}.
+	 * <p>
+	 * The columns intersecting the horizontal viewport of the virtual flow are found by accumulating the
+	 * columns' widths, {@link #getColumnWidth(MFXTableColumn)}, then the range is extended on both sides by
+	 * the {@link #columnsOverscanProperty()}. The widths of the columns before and after the range are
+	 * computed too, so that rows and header can fill the space of the columns which are not materialized.
+	 * <p>
+	 * A new range is set only if the bounds or the widths before/after the range changed.
+	 */
+	protected void updateColumnsRange() {
+		int size = tableColumns.size();
+		double[] widths = new double[size];
+		for (int i = 0; i < size; i++) {
+			widths[i] = getColumnWidth(tableColumns.get(i));
+		}
+
+		double start = rowsFlow.getHorizontalPosition();
+		double end = start + rowsFlow.getWidth();
+		int first = size;
+		int last = -1;
+		double x = 0;
+		for (int i = 0; i < size && x <= end; i++) {
+			if (x + widths[i] > start) {
+				first = Math.min(first, i);
+				last = i;
+			}
+			x += widths[i];
+		}
+		if (size > 0 && last == -1) {
+			first = size - 1;
+			last = size - 1;
+		}
+		int overscan = Math.max(0, getColumnsOverscan());
+		first = Math.max(0, first - overscan);
+		last = (int) Math.min(size - 1L, (long) last + overscan);
+
+		double leading = 0;
+		double trailing = 0;
+		for (int i = 0; i < first; i++) leading += widths[i];
+		for (int i = last + 1; i < size; i++) trailing += widths[i];
+
+		NumberRange<Integer> range = NumberRange.of(first, last);
+		if (range.equals(getColumnsRange()) && leading == leadingColumnsWidth && trailing == trailingColumnsWidth) return;
+		leadingColumnsWidth = leading;
+		trailingColumnsWidth = trailing;
+		columnsRange.set(range);
+	}
+
+	/**
+	 * Returns the width used to compute the {@link #columnsRangeProperty()} for the given column.
+	 * <p>
+	 * Columns which have never been laid out have a width of 0, in such case their min width is used,
+	 * which is also the width set by {@link #autosizeColumn(MFXTableColumn)}.
+	 */
+	protected double getColumnWidth(MFXTableColumn<T> column) {
+		return Math.max(column.getWidth(), column.getMinWidth());
+	}
+
+	/**
+	 * Sets the sort state of the given column and updates the {@link #getSortOrder()} accordingly,
+	 * see {@link #updateSortOrder(MFXTableColumn, boolean)}.
+	 */
+	public void sort(MFXTableColumn<T> column, SortState sortState, boolean additive) {
+		sorting = true;
+		try {
+			column.setSortState(sortState);
+		} finally {
+			sorting = false;
+		}
+		updateSortOrder(column, additive);
+	}
+
+	/**
+	 * Updates the {@link #getSortOrder()} when the sort state of the given column changes, this is called by the skin
+	 * on {@link MFXTableColumnEvent#SORTING_EVENT}.
+	 * <p>
+	 * If not additive, the other columns are unsorted and removed from the sort order. Then the column is removed from the
+	 * sort order if unsorted, or added at the end if sorted and not already there. Finally, the rows are sorted once
+	 * by {@link #applySortOrder()}.
+	 */
+	public void updateSortOrder(MFXTableColumn<T> column, boolean additive) {
+		if (sorting) return;
+		sorting = true;
+		try {
+			if (!additive) {
+				for (MFXTableColumn<T> other : new ArrayList<>(sortOrder)) {
+					if (other != column) other.setSortState(SortState.UNSORTED);
+				}
+				sortOrder.retainAll(Collections.singleton(column));
+			}
+			if (column.getSortState() == SortState.UNSORTED) {
+				sortOrder.remove(column);
+			} else if (!sortOrder.contains(column)) {
+				sortOrder.add(column);
+			}
+		} finally {
+			sorting = false;
+		}
+		applySortOrder();
+	}
+
+	/**
+	 * Sorts the rows by the columns in the {@link #getSortOrder()}, each in its sort state.
+	 * <p>
+	 * A single column is sorted by its comparator, multiple columns by a composite key, {@link SortKey#composite(List)}.
+	 * <p>
+	 * Only the keys of the columns whose comparator is a {@link SortKey}, see {@link MFXTableColumn#setSortKey(Function)},
+	 * are extracted once per row, k * n extractions for k such columns. The comparators built otherwise, for example with
+	 * {@link Comparator#comparing(Function)}, extract their keys at each comparison, k * n log n times.
+	 */
+	protected void applySortOrder() {
+		List<Comparator<T>> comparators = new ArrayList<>();
+		boolean reversed = false;
+		for (MFXTableColumn<T> column : sortOrder) {
+			Comparator<T> comparator = column.getComparator();
+			SortState sortState = column.getSortState();
+			if (comparator == null || sortState == SortState.UNSORTED) continue;
+			if (comparators.isEmpty()) reversed = sortState == SortState.DESCENDING;
+			comparators.add(sortState == SortState.DESCENDING ? comparator.reversed() : comparator);
+		}
+
+		if (comparators.isEmpty()) {
+			transformableList.setComparator(null, false);
+		} else if (comparators.size() == 1) {
+			transformableList.setComparator(comparators.get(0), reversed);
+		} else {
+			transformableList.setComparator(SortKey.composite(comparators), reversed);
+		}
 	}
 
 	/**
@@ -128,7 +379,7 @@ private void initialize() {
 	 */
 	protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
 		IMultipleSelectionModel<T> selectionModel = getSelectionModel();
-		if (selectionModel.getSelection().isEmpty()) return;
+		if (itemsDiffing || selectionModel.getSelection().isEmpty()) return;
 
 		if (change.getList().isEmpty()) {
 			selectionModel.clearSelection();
@@ -148,15 +399,261 @@ protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
 		});
 	}
 
+	/**
+	 * Convenience method for {@link #setItemsDiffed(List, Function)}, the items are matched by equality.
+	 */
+	public void setItemsDiffed(List<? extends T> items) {
+		setItemsDiffed(items, null);
+	}
+
+	/**
+	 * Makes the items list contain the given items by applying the minimal changes, computed by {@link ListDiff},
+	 * rather than replacing all the items.
+	 * <p>
+	 * This is meant for data sources that return a fresh snapshot each time, for example a polled REST endpoint:
+	 * the rows of the unchanged items are not updated, and the selection and the scroll position are kept.
+	 * Items are matched by the keys extracted by the given function, an item with the same key of an old item
+	 * replaces it, keeping it selected.
+	 * <p>
+	 * The operations are applied one by one, so that the rows receive precise changes and the
+	 * {@link #getTransformableList()} processes them incrementally.
+	 *
+	 * @param keyExtractor the function extracting the items' keys, null to match the items by equality
+	 */
+	public void setItemsDiffed(List<? extends T> items, Function<? super T, ?> keyExtractor) {
+		ObservableList<T> current = getItems();
+		ListDiff<T> diff = ListDiff.compute(current, items, keyExtractor);
+		if (diff.isEmpty()) return;
+
+		IMultipleSelectionModel<T> selectionModel = getSelectionModel();
+		List<Integer> selected = new ArrayList<>();
+		for (Integer index : selectionModel.getSelection().keySet()) {
+			int newIndex = diff.getNewIndex(index);
+			if (newIndex != -1) selected.add(newIndex);
+		}
+
+		itemsDiffing = true;
+		try {
+			diff.applyTo(current);
+		} finally {
+			itemsDiffing = false;
+		}
+
+		if (selected.isEmpty()) {
+			if (!selectionModel.getSelection().isEmpty()) selectionModel.clearSelection();
+		} else {
+			selectionModel.replaceSelection(selected.toArray(Integer[]::new));
+		}
+	}
+
+	/**
+	 * Convenience method for {@link #append(Collection)}.
+	 */
+	@SafeVarargs
+	public final void append(T... items) {
+		if (items.length == 0) return;
+		for (T item : items) {
+			appendBuffer.add(item);
+		}
+		scheduleDrain();
+	}
+
+	/**
+	 * Appends the given items to the table, this method is thread-safe and meant to stream rows from
+	 * any thread, for example from a log tailer or a message bus.
+	 * <p>
+	 * The items are buffered and added to the items list on the JavaFX thread at the next pulse, all the items appended
+	 * since the previous pulse are added at once, see {@link #appendRows(List)}.
+	 * <p>
+	 * While an {@link #exportAsync(WritableByteChannel, char, DoubleConsumer)} is running the items are only buffered,
+	 * they are added once all the exports are done.
+	 */
+	public void append(Collection<? extends T> items) {
+		if (items.isEmpty()) return;
+		appendBuffer.addAll(items);
+		scheduleDrain();
+	}
+
+	/**
+	 * Starts the timer which drains the items buffered by {@link #append(Collection)}, once per pulse,
+	 * if not started already. The timer stops itself when there's nothing left to drain, or while an export is
+	 * running, in which case it stays scheduled and it's restarted by the export when done.
+	 */
+	private void scheduleDrain() {
+		if (!appendScheduled.compareAndSet(false, true)) return;
+		if (Platform.isFxApplicationThread()) {
+			appendDrainer.start();
+		} else {
+			Platform.runLater(appendDrainer::start);
+		}
+	}
+
+	/**
+	 * Polls all the items buffered by {@link #append(Collection)} and adds them with {@link #appendRows(List)}.
+	 */
+	protected void drainAppended() {
+		List<T> batch = new ArrayList<>();
+		T item;
+		while ((item = appendBuffer.poll()) != null) {
+			batch.add(item);
+		}
+		appendRows(batch);
+	}
+
+	/**
+	 * Adds the given items at the end of the items list, evicting the oldest items (the ones at the head of the list)
+	 * if the {@link #maxRowsProperty()} is exceeded.
+	 * <p>
+	 * The eviction is a single range removal and the addition a single append, both are processed incrementally
+	 * by the {@link #getTransformableList()}, so a drain costs O(k log n) rather than a full recompute of the view.
+	 * <p>
+	 * If {@link #autoScrollToTailProperty()} is true and the table was scrolled to the end, it is scrolled to the
+	 * end again to show the new rows. Otherwise, the viewport is kept on the same rows by scrolling back by the
+	 * evicted rows which were above it.
+	 */
+	protected void appendRows(List<T> batch) {
+		ObservableList<T> items = getItems();
+		int max = getMaxRows();
+		List<T> added = (max > 0 && batch.size() > max) ? batch.subList(batch.size() - max, batch.size()) : batch;
+		int evicted = max > 0 ? Math.max(0, items.size() + added.size() - max) : 0;
+		if (added.isEmpty() && evicted == 0) return;
+
+		boolean toTail = isAutoScrollToTail() && isScrolledToTail();
+		double evictedAbove = 0;
+		if (!toTail && evicted > 0 && rowsFlow.getCellHeight() > 0) {
+			int firstVisible = rowIndexAt(rowsFlow.getVerticalPosition());
+			for (int i = 0; i < evicted; i++) {
+				int index = transformableList.sourceToView(i);
+				if (index >= 0 && index < firstVisible) evictedAbove += rowHeight(index);
+			}
+		}
+
+		if (evicted > 0) items.remove(0, evicted);
+		if (!added.isEmpty()) items.addAll(added);
+
+		if (toTail) {
+			rowsFlow.scrollToLast();
+		} else if (evictedAbove > 0) {
+			rowsFlow.scrollBy(-evictedAbove);
+		}
+	}
+
+	/**
+	 * @return the vertical position at which the row at the given index starts
+	 */
+	protected double rowOffset(int index) {
+		if (rowsFlow instanceof VariableHeightFlow) return ((VariableHeightFlow<?, ?>) rowsFlow).offsetOf(index);
+		return index * rowsFlow.getCellHeight();
+	}
+
+	/**
+	 * @return the index of the row at the given vertical position
+	 */
+	protected int rowIndexAt(double offset) {
+		if (rowsFlow instanceof VariableHeightFlow) return ((VariableHeightFlow<?, ?>) rowsFlow).indexAt(offset);
+		double cellHeight = rowsFlow.getCellHeight();
+		return cellHeight > 0 ? (int) (offset / cellHeight) : 0;
+	}
+
+	/**
+	 * @return the height of the row at the given index
+	 */
+	protected double rowHeight(int index) {
+		if (rowsFlow instanceof VariableHeightFlow) return ((VariableHeightFlow<?, ?>) rowsFlow).getHeight(index);
+		return rowsFlow.getCellHeight();
+	}
+
+	/**
+	 * @return whether the rows are scrolled to the end, or don't fill the viewport
+	 */
+	protected boolean isScrolledToTail() {
+		ScrollBar vBar = rowsFlow.getVBar();
+		return vBar.getValue() >= vBar.getMax() - rowsFlow.getCellHeight() / 2;
+	}
+
 	/**
 	 * Allows to programmatically update the table.
 	 * <p>
-	 * Uses {@link MFXTableRow#updateRow()} on the currently built rows, {@link SimpleVirtualFlow#getCells()}.
+	 * Clears the text cache, see {@link #textCacheSizeProperty()}, and the sort keys, see {@link TransformableListWrapper#invalidateKeys()},
+	 * then uses {@link MFXTableRow#updateRow()} on the currently built rows, {@link SimpleVirtualFlow#getCells()}.
 	 */
 	public void update() {
+		if (textCache != null) textCache.clear();
+		transformableList.invalidateKeys();
 		rowsFlow.getCells().values().forEach(MFXTableRow::updateRow);
 	}
 
+	/**
+	 * Updates only the rows showing the given item (compared by identity), if any, by calling {@link MFXTableRow#updateRow()},
+	 * this is much cheaper than {@link #update()} when a single item changed.
+	 * <p>
+	 * The cached texts of the item are discarded, see {@link #invalidate(Object)}, as well as the sort keys,
+	 * see {@link TransformableListWrapper#invalidateKeys()}. Apart from that, if the item is not displayed this is a no-op.
+	 */
+	public void refresh(T item) {
+		invalidate(item);
+		transformableList.invalidateKeys();
+		for (MFXTableRow<T> row : rowsFlow.getCells().values()) {
+			if (row.getData() == item) row.updateRow();
+		}
+	}
+
+	/**
+	 * Updates only the cell of the given column in the rows showing the given item (compared by identity), if any,
+	 * see {@link MFXTableRow#updateCell(MFXTableColumn, MFXTableRowCell, Object)}.
+	 * <p>
+	 * The cached text of the item for the column is discarded, as well as the sort keys, see {@link TransformableListWrapper#invalidateKeys()}.
+	 * Apart from that, if the item is not displayed or the column is not materialized, {@link #columnsRangeProperty()}, this is a no-op.
+	 */
+	public void refresh(T item, MFXTableColumn<T> column) {
+		if (textCache != null) textCache.remove(new TextCacheKey(item, column));
+		transformableList.invalidateKeys();
+		for (MFXTableRow<T> row : rowsFlow.getCells().values()) {
+			if (row.getData() != item) continue;
+
+			MFXTableRowCell<T, ?> cell = row.getCell(column);
+			if (cell != null) row.updateCell(column, cell, item);
+		}
+	}
+
+	/**
+	 * Removes the cached texts of the given item for all the columns, see {@link #textCacheSizeProperty()}.
+	 * <p>
+	 * Note that this doesn't update the rows, the new texts are computed the next time the item is shown.
+	 */
+	public void invalidate(T item) {
+		if (textCache == null) return;
+		for (MFXTableColumn<T> column : tableColumns) {
+			textCache.remove(new TextCacheKey(item, column));
+		}
+	}
+
+	/**
+	 * Used by the rows to get the text of the given cell for the given item.
+	 * <p>
+	 * If the text cache is enabled, {@link #textCacheSizeProperty()}, and the cell is cacheable, {@link MFXTableRowCell#isTextCacheable()},
+	 * the text is retrieved from the cache as long as the item's version, {@link #itemVersionFunctionProperty()}, did not change.
+	 * Otherwise, it's computed by {@link MFXTableRowCell#computeText(Object)} and cached.
+	 *
+	 * @return the cell's text or null if the text cache can't be used, in which case the cell should be updated
+	 * with {@link MFXTableRowCell#update(Object)}
+	 */
+	protected String getCellText(MFXTableColumn<T> column, MFXTableRowCell<T, ?> cell, T item) {
+		if (textCache == null || item == null || !cell.isTextCacheable()) return null;
+
+		Function<T, Object> versionFunction = getItemVersionFunction();
+		Object version = versionFunction != null ? versionFunction.apply(item) : null;
+		TextCacheKey key = new TextCacheKey(item, column);
+		TextCacheEntry entry = textCache.get(key);
+		if (entry != null && entry.factory == column.getRowCellFactory() && Objects.equals(entry.version, version)) {
+			return entry.text;
+		}
+
+		String text = cell.computeText(item);
+		textCache.put(key, new TextCacheEntry(column.getRowCellFactory(), version, text));
+		return text;
+	}
+
 	/**
 	 * Autosize all the table columns.
 	 */
@@ -179,6 +676,8 @@ public void autosizeColumn(int index) {
 
 	/**
 	 * Autosizes the given column.
+	 * <p>
+	 * The column doesn't need to be materialized in the rows, see {@link MFXTableRow#computeCellWidth(MFXTableColumn)}.
 	 */
 	public void autosizeColumn(MFXTableColumn<T> column) {
 		int index = tableColumns.indexOf(column);
@@ -188,11 +687,8 @@ public void autosizeColumn(MFXTableColumn<T> column) {
 		List<Double> minSizes = new ArrayList<>();
 		minSizes.add(column.getWidth());
 		rows.forEach(row -> {
-			ObservableList<MFXTableRowCell<T, ?>> rowCells = row.getCells();
-			if (rowCells.isEmpty()) return;
-			MFXTableRowCell<T, ?> rowCell = rowCells.get(index);
-			rowCell.requestLayout();
-			minSizes.add(rowCell.computePrefWidth(-1));
+			double width = row.computeCellWidth(column);
+			if (width != -1) minSizes.add(width);
 		});
 		double max = minSizes.stream().max(Double::compareTo).orElse(-1.0);
 		if (max != -1.0) {
@@ -200,6 +696,283 @@ public void autosizeColumn(MFXTableColumn<T> column) {
 		}
 	}
 
+	/**
+	 * Autosizes all the table columns by measuring all the items, see {@link #autosizeColumnAsync(MFXTableColumn, int)}.
+	 */
+	public void autosizeColumnsAsync() {
+		tableColumns.forEach(this::autosizeColumnAsync);
+	}
+
+	/**
+	 * Autosizes the given column by measuring all the items, see {@link #autosizeColumnAsync(MFXTableColumn, int)}.
+	 */
+	public CompletableFuture<Double> autosizeColumnAsync(MFXTableColumn<T> column) {
+		return autosizeColumnAsync(column, -1);
+	}
+
+	/**
+	 * Autosizes the given column by finding the widest text among all the items, or among an evenly spaced sample of them,
+	 * so that unlike {@link #autosizeColumn(MFXTableColumn)} the result doesn't depend on the rows currently built.
+	 * <p>
+	 * On the JavaFX thread the items are copied and a cell of the column is measured to get its font and the space occupied by
+	 * everything but the text (insets, graphics). The texts are then computed on a background thread by the cell's
+	 * extractor and converter, {@link MFXTableRowCell#computeText(Object)}, their widths are estimated with the
+	 * {@link FontMetricsCache} and only the widest candidates are measured exactly. Just the final
+	 * {@link MFXTableColumn#setMinWidth(double)} runs on the JavaFX thread.
+	 * <p>
+	 * Since extractor and converter are executed on a background thread they must not access the scene graph.
+	 * A new request for the same column cancels the previous one.
+	 *
+	 * @param sampleSize the max number of items to measure, zero or negative to measure all of them
+	 * @return a future completed with the new min width, -1 if the column can't be measured yet (not in the table
+	 * or no rows built), or cancelled if superseded by another request
+	 */
+	public CompletableFuture<Double> autosizeColumnAsync(MFXTableColumn<T> column, int sampleSize) {
+		if (!tableColumns.contains(column)) return CompletableFuture.completedFuture(-1.0);
+		MFXTableRow<T> row = rowsFlow.getCells().values().stream().findFirst().orElse(null);
+		if (row == null) return CompletableFuture.completedFuture(-1.0);
+
+		double[] chrome = new double[1];
+		MFXTableRowCell<T, ?> cell = row.measureCell(column, c -> {
+			chrome[0] = c.computePrefWidth(-1) - FontMetricsCache.computeTextWidth(c.getFont(), c.getText());
+			return c;
+		}, null);
+		if (cell == null) return CompletableFuture.completedFuture(-1.0);
+		Font font = cell.getFont();
+
+		List<T> items = getItems();
+		List<T> sample;
+		if (sampleSize <= 0 || sampleSize >= items.size()) {
+			sample = new ArrayList<>(items);
+		} else {
+			sample = new ArrayList<>(sampleSize);
+			double step = (double) items.size() / sampleSize;
+			for (int i = 0; i < sampleSize; i++) {
+				sample.add(items.get((int) (i * step)));
+			}
+		}
+
+		CompletableFuture<Double> task = new CompletableFuture<>();
+		CompletableFuture<Double> previous = autosizeTasks.put(column, task);
+		if (previous != null) previous.cancel(false);
+
+		getAutosizeExecutor().execute(() -> {
+			try {
+				double textWidth = computeMaxTextWidth(cell, font, sample, task);
+				Platform.runLater(() -> {
+					autosizeTasks.remove(column, task);
+					if (task.isDone()) return;
+					if (!tableColumns.contains(column)) {
+						task.complete(-1.0);
+						return;
+					}
+
+					double width = Math.max(column.getWidth(), chrome[0] + textWidth);
+					column.setMinWidth(width);
+					task.complete(width);
+				});
+			} catch (Exception ex) {
+				Platform.runLater(() -> autosizeTasks.remove(column, task));
+				task.completeExceptionally(ex);
+			}
+		});
+		return task;
+	}
+
+	/**
+	 * Computes the width of the widest text the given cell would show for the given items.
+	 * <p>
+	 * Executed on the autosize thread, the texts are ranked by their estimated width and only the
+	 * widest candidates are measured exactly. Returns early if the task is cancelled.
+	 */
+	protected double computeMaxTextWidth(MFXTableRowCell<T, ?> cell, Font font, List<T> items, Future<?> task) {
+		TreeMap<Double, String> candidates = new TreeMap<>();
+		for (int i = 0; i < items.size(); i++) {
+			if ((i & 1023) == 0 && task.isCancelled()) return -1;
+
+			String text = cell.computeText(items.get(i));
+			double estimate = FontMetricsCache.estimateTextWidth(font, text);
+			if (candidates.size() < AUTOSIZE_CANDIDATES || estimate > candidates.firstKey()) {
+				candidates.put(estimate, text);
+				if (candidates.size() > AUTOSIZE_CANDIDATES) candidates.pollFirstEntry();
+			}
+		}
+
+		double max = 0;
+		for (String text : candidates.values()) {
+			max = Math.max(max, FontMetricsCache.computeTextWidth(font, text));
+		}
+		return max;
+	}
+
+	/**
+	 * Lazily builds the executor used by {@link #autosizeColumnAsync(MFXTableColumn, int)}, a single
+	 * daemon thread which is released when idle.
+	 */
+	private ExecutorService getAutosizeExecutor() {
+		if (autosizeExecutor == null) autosizeExecutor = buildDaemonExecutor();
+		return autosizeExecutor;
+	}
+
+	/**
+	 * Exports the table to the given channel as CSV, see {@link #exportAsync(WritableByteChannel, char, DoubleConsumer)}.
+	 */
+	public CompletableFuture<Long> exportAsync(WritableByteChannel channel) {
+		return exportAsync(channel, ',', null);
+	}
+
+	/**
+	 * Exports the table to the given channel as CSV (RFC 4180, UTF-8 encoded), in the current view order, that is
+	 * the filtered and sorted rows of the {@link #getTransformableList()}. The first line contains the columns' text.
+	 * <p>
+	 * The values are the texts computed by a cell of each column, built by the column's row cell factory,
+	 * {@link MFXTableRowCell#computeText(Object)}, so the same extractors and converters of the rows are used.
+	 * They are computed on a background thread, and written through a {@link ChannelTextWriter}.
+	 * The rows are copied from the view a chunk at a time on the JavaFX thread, so the memory used is constant
+	 * whatever the number of rows, but if the view changes during the export, the export fails with a
+	 * {@link ConcurrentModificationException}. The items streamed by {@link #append(Collection)} are held back
+	 * until the export is done, so they don't change the view, while any other change to the items list does,
+	 * including the updates reported by an items list built with an extractor.
+	 * <p>
+	 * This must be called on the JavaFX thread, on which the returned future must not be waited for.
+	 * The export can be stopped by cancelling the returned future. The channel is not closed.
+	 *
+	 * @param separator the char that separates the values
+	 * @param progress  called on the JavaFX thread with the fraction of the exported rows, can be null
+	 * @return a future completed with the number of exported rows
+	 */
+	public CompletableFuture<Long> exportAsync(WritableByteChannel channel, char separator, DoubleConsumer progress) {
+		List<String> headers = new ArrayList<>();
+		List<MFXTableRowCell<T, ?>> cells = new ArrayList<>();
+		T first = transformableList.isEmpty() ? null : transformableList.get(0);
+		for (MFXTableColumn<T> column : tableColumns) {
+			headers.add(column.getText());
+			if (first != null) cells.add(column.getRowCellFactory().apply(first));
+		}
+
+		CompletableFuture<Long> task = new CompletableFuture<>();
+		AtomicBoolean viewChanged = new AtomicBoolean(false);
+		InvalidationListener viewListener = invalidated -> viewChanged.set(true);
+		transformableList.addListener(viewListener);
+		exportsRunning++;
+		task.whenComplete((count, ex) -> Platform.runLater(() -> {
+			transformableList.removeListener(viewListener);
+			if (--exportsRunning == 0) {
+				appendScheduled.set(false);
+				if (!appendBuffer.isEmpty()) scheduleDrain();
+			}
+		}));
+
+		getExportExecutor().execute(() -> {
+			try {
+				ChannelTextWriter writer = new ChannelTextWriter(channel);
+				StringBuilder line = new StringBuilder();
+				for (int i = 0; i < headers.size(); i++) {
+					if (i > 0) line.append(separator);
+					appendCsvValue(line, headers.get(i), separator);
+				}
+				writer.write(line.append("\r\n"));
+
+				long count = 0;
+				List<T> chunk;
+				while (!(chunk = fetchViewChunk(count, viewChanged, progress)).isEmpty()) {
+					for (T item : chunk) {
+						if (task.isDone()) return;
+						line.setLength(0);
+						for (int i = 0; i < cells.size(); i++) {
+							if (i > 0) line.append(separator);
+							appendCsvValue(line, cells.get(i).computeText(item), separator);
+						}
+						writer.write(line.append("\r\n"));
+					}
+					count += chunk.size();
+				}
+				writer.flush();
+
+				if (progress != null) Platform.runLater(() -> progress.accept(1.0));
+				task.complete(count);
+			} catch (ExecutionException ex) {
+				task.completeExceptionally(ex.getCause());
+			} catch (Exception ex) {
+				task.completeExceptionally(ex);
+			}
+		});
+		return task;
+	}
+
+	/**
+	 * Copies the next chunk of rows of the view for {@link #exportAsync(WritableByteChannel, char, DoubleConsumer)},
+	 * waiting for the JavaFX thread.
+	 *
+	 * @return the chunk starting at the given index, empty when all the rows have been exported
+	 */
+	private List<T> fetchViewChunk(long from, AtomicBoolean viewChanged, DoubleConsumer progress) throws InterruptedException, ExecutionException {
+		CompletableFuture<List<T>> chunk = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			if (viewChanged.get()) {
+				chunk.completeExceptionally(new ConcurrentModificationException("The table view changed during the export"));
+				return;
+			}
+
+			int size = transformableList.size();
+			int start = (int) Math.min(from, size);
+			if (progress != null && size > 0) progress.accept((double) start / size);
+			chunk.complete(new ArrayList<>(transformableList.subList(start, Math.min(start + EXPORT_CHUNK_SIZE, size))));
+		});
+		return chunk.get();
+	}
+
+	/**
+	 * Appends the given value to the given line, between quotes (and with quotes doubled)
+	 * if it contains the separator, quotes or line breaks.
+	 */
+	private static void appendCsvValue(StringBuilder line, String value, char separator) {
+		if (value == null) return;
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == separator || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			line.append(value);
+			return;
+		}
+
+		line.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') line.append('"');
+			line.append(c);
+		}
+		line.append('"');
+	}
+
+	/**
+	 * Lazily builds the executor used by {@link #exportAsync(WritableByteChannel, char, DoubleConsumer)}, a single
+	 * daemon thread which is released when idle.
+	 */
+	private ExecutorService getExportExecutor() {
+		if (exportExecutor == null) exportExecutor = buildDaemonExecutor();
+		return exportExecutor;
+	}
+
+	/**
+	 * @return a new executor backed by a single daemon thread which is released when idle
+	 */
+	private static ExecutorService buildDaemonExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				1, 1, 5, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				r -> {
+					Thread thread = new Thread(r);
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	/**
 	 * This should be called only if you need to autosize the columns
 	 * before the table is laid out/initialized.
@@ -332,6 +1105,88 @@ public IMultipleSelectionModel<T> getSelectionModel() {
 		return selectionModel;
 	}
 
+	/**
+	 * @return whether the rows of this table can have different heights, set at construction
+	 */
+	public boolean isVariableRowHeights() {
+		return variableRowHeights;
+	}
+
+	public boolean isSharedRipple() {
+		return sharedRipple.get();
+	}
+
+	/**
+	 * Specifies whether the rows should use a single {@link MFXSharedRippleGenerator}, {@link #getSharedRippleGenerator()},
+	 * rather than building a ripple generator each.
+	 * <p>
+	 * This is read when the rows are built, so it should be set before the table is shown.
+	 */
+	public BooleanProperty sharedRippleProperty() {
+		return sharedRipple;
+	}
+
+	public void setSharedRipple(boolean sharedRipple) {
+		this.sharedRipple.set(sharedRipple);
+	}
+
+	/**
+	 * @return the ripple generator shared by the rows when {@link #sharedRippleProperty()} is true, built on first access
+	 */
+	public MFXSharedRippleGenerator getSharedRippleGenerator() {
+		if (sharedRippleGenerator == null) {
+			sharedRippleGenerator = new MFXSharedRippleGenerator();
+		}
+		return sharedRippleGenerator;
+	}
+
+	public int getColumnsOverscan() {
+		return columnsOverscan.get();
+	}
+
+	/**
+	 * Specifies the number of columns to materialize before and after the ones
+	 * visible in the horizontal viewport.
+	 * <p>
+	 * Defaults to 2. Use a big value, like {@link Integer#MAX_VALUE}, to materialize all the columns.
+	 */
+	public IntegerProperty columnsOverscanProperty() {
+		return columnsOverscan;
+	}
+
+	public void setColumnsOverscan(int columnsOverscan) {
+		this.columnsOverscan.set(columnsOverscan);
+	}
+
+	public NumberRange<Integer> getColumnsRange() {
+		return columnsRange.get();
+	}
+
+	/**
+	 * Specifies the range of columns, indexes in {@link #getTableColumns()} with both bounds inclusive,
+	 * that are materialized in the rows and in the header.
+	 * <p>
+	 * Note that a new range is set also when only {@link #getLeadingColumnsWidth()} or {@link #getTrailingColumnsWidth()}
+	 * changed, so an {@link InvalidationListener} should be used to observe it.
+	 */
+	public ReadOnlyObjectProperty<NumberRange<Integer>> columnsRangeProperty() {
+		return columnsRange.getReadOnlyProperty();
+	}
+
+	/**
+	 * @return the total width of the columns before the {@link #columnsRangeProperty()}
+	 */
+	public double getLeadingColumnsWidth() {
+		return leadingColumnsWidth;
+	}
+
+	/**
+	 * @return the total width of the columns after the {@link #columnsRangeProperty()}
+	 */
+	public double getTrailingColumnsWidth() {
+		return trailingColumnsWidth;
+	}
+
 	/**
 	 * @return the list containing the table's columns
 	 */
@@ -354,9 +1209,119 @@ public void setTableRowFactory(Function<T, MFXTableRow<T>> tableRowFactory) {
 		this.tableRowFactory.set(tableRowFactory);
 	}
 
+	public int getTextCacheSize() {
+		return textCacheSize.get();
+	}
+
+	/**
+	 * Specifies the max number of cell texts cached by the table, zero (the default) disables the cache.
+	 * <p>
+	 * When enabled, the rows don't extract and convert the data of the cells every time an item comes into view,
+	 * the texts are cached by item (by identity) and column, and evicted when the cache is full, least recently used first.
+	 * Cached texts are discarded by {@link #update()} and {@link #invalidate(Object)}, or when the item's version changes,
+	 * see {@link #itemVersionFunctionProperty()}.
+	 * <p>
+	 * Only cacheable cells use the cache, see {@link MFXTableRowCell#isTextCacheable()}.
+	 */
+	public IntegerProperty textCacheSizeProperty() {
+		return textCacheSize;
+	}
+
+	public void setTextCacheSize(int textCacheSize) {
+		this.textCacheSize.set(textCacheSize);
+	}
+
+	public Function<T, Object> getItemVersionFunction() {
+		return itemVersionFunction.get();
+	}
+
+	/**
+	 * Specifies the {@link Function} used to retrieve the version of an item, for example a modification
+	 * counter or timestamp. The cached texts of an item are used only if its version is equal to the one they
+	 * were computed for.
+	 * <p>
+	 * By default, it's null, meaning that cached texts are discarded only by {@link #update()} and {@link #invalidate(Object)}.
+	 */
+	public FunctionProperty<T, Object> itemVersionFunctionProperty() {
+		return itemVersionFunction;
+	}
+
+	public void setItemVersionFunction(Function<T, Object> itemVersionFunction) {
+		this.itemVersionFunction.set(itemVersionFunction);
+	}
+
+	public int getMaxRows() {
+		return maxRows.get();
+	}
+
+	/**
+	 * Specifies the max number of items of the table, when exceeded by {@link #append(Collection)}
+	 * the oldest items are removed.
+	 * <p>
+	 * Zero or negative for no limit.
+	 */
+	public IntegerProperty maxRowsProperty() {
+		return maxRows;
+	}
+
+	public void setMaxRows(int maxRows) {
+		this.maxRows.set(maxRows);
+	}
+
+	public boolean isAutoScrollToTail() {
+		return autoScrollToTail.get();
+	}
+
+	/**
+	 * Specifies whether the table should keep showing the last rows when new items are added with
+	 * {@link #append(Collection)}, as long as it was scrolled to the end before.
+	 */
+	public BooleanProperty autoScrollToTailProperty() {
+		return autoScrollToTail;
+	}
+
+	public void setAutoScrollToTail(boolean autoScrollToTail) {
+		this.autoScrollToTail.set(autoScrollToTail);
+	}
+
+	public double getFastScrollThreshold() {
+		return fastScrollDetector.getThreshold();
+	}
+
+	/**
+	 * Specifies the scroll velocity, in pixels per second, above which the rows entering the viewport
+	 * show a placeholder rather than updating their cells, see {@link MFXTableRow#isPlaceholder()}.
+	 * The rows are updated once the scroll slows down or stops.
+	 * <p>
+	 * Values less than or equal to 0 disable the fast-scroll mode, this is the default.
+	 */
+	public DoubleProperty fastScrollThresholdProperty() {
+		return fastScrollDetector.thresholdProperty();
+	}
+
+	public void setFastScrollThreshold(double fastScrollThreshold) {
+		fastScrollDetector.setThreshold(fastScrollThreshold);
+	}
+
+	public boolean isFastScrolling() {
+		return fastScrollDetector.isFastScrolling();
+	}
+
+	/**
+	 * Specifies whether the table is being scrolled faster than the {@link #fastScrollThresholdProperty()}.
+	 */
+	public ReadOnlyBooleanProperty fastScrollingProperty() {
+		return fastScrollDetector.fastScrollingProperty();
+	}
+
 	/**
 	 * @return the list that is effectively used by the {@link SimpleVirtualFlow} (which contains the table rows).
 	 * This list is capable of filtering and sorting.
+	 * <p>
+	 * The list is built directly over the {@link #itemsProperty()} list (through a {@link ListProperty} bound to it),
+	 * so items are never copied. Changes to the items list are processed incrementally and when the items list is
+	 * replaced, the new list's items replace the old ones in a single change. Mutations made through this wrapper
+	 * are applied to the items list.
 	 * @see TransformableListWrapper
 	 * @see TransformableList
 	 */
@@ -364,6 +1329,18 @@ public TransformableListWrapper<T> getTransformableList() {
 		return transformableList;
 	}
 
+	/**
+	 * @return the list of the columns by which the rows are sorted, in order of priority
+	 * <p>
+	 * Columns are added and removed by {@link #updateSortOrder(MFXTableColumn, boolean)} as their sort state
+	 * changes: clicking a column header sorts by that column only, shift-clicking adds it to the sort order
+	 * (or changes its direction, or removes it). The list can also be modified directly, the columns are
+	 * sorted in their current sort state.
+	 */
+	public ObservableList<MFXTableColumn<T>> getSortOrder() {
+		return sortOrder;
+	}
+
 	/**
 	 * @return the list containing the filters' information used by the
 	 * {@link  MFXFilterPane} to filter the table
@@ -405,4 +1382,49 @@ public boolean isVirtualFlowInitialized() {
 	public ReadOnlyBooleanProperty virtualFlowInitializedProperty() {
 		return virtualFlowInitialized.getReadOnlyProperty();
 	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Key of the text cache, the item is compared by identity.
+	 */
+	private static final class TextCacheKey {
+		private final Object item;
+		private final MFXTableColumn<?> column;
+
+		private TextCacheKey(Object item, MFXTableColumn<?> column) {
+			this.item = item;
+			this.column = column;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof TextCacheKey)) return false;
+			TextCacheKey that = (TextCacheKey) o;
+			return item == that.item && column == that.column;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(item) + System.identityHashCode(column);
+		}
+	}
+
+	/**
+	 * Value of the text cache, holds the text and what it was computed with.
+	 */
+	private static final class TextCacheEntry {
+		private final Object factory;
+		private final Object version;
+		private final String text;
+
+		private TextCacheEntry(Object factory, Object version, String text) {
+			this.factory = factory;
+			this.version = version;
+			this.text = text;
+		}
+	}
 }
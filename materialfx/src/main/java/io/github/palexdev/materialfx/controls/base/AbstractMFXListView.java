@@ -18,13 +18,21 @@
 
 package io.github.palexdev.materialfx.controls.base;
 
+import io.github.palexdev.materialfx.collections.ListDiff;
+import io.github.palexdev.materialfx.controls.cell.base.AbstractMFXListCell;
 import io.github.palexdev.materialfx.effects.DepthLevel;
+import io.github.palexdev.materialfx.effects.ripple.MFXSharedRippleGenerator;
 import io.github.palexdev.materialfx.selection.MultipleSelectionModel;
 import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
 import io.github.palexdev.materialfx.utils.ColorUtils;
 import io.github.palexdev.materialfx.utils.StyleablePropertiesUtils;
+import io.github.palexdev.materialfx.utils.others.FastScrollDetector;
 import io.github.palexdev.virtualizedfx.cell.Cell;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -35,7 +43,9 @@
 import javafx.util.Duration;
 import javafx.util.StringConverter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Base class for all list views based on VirtualizedFX, defines common properties and behavior.
@@ -49,13 +59,25 @@
 	protected final ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>(FXCollections.observableArrayList());
 	protected final ObjectProperty<StringConverter<T>> converter = new SimpleObjectProperty<>();
 	protected final IMultipleSelectionModel<T> selectionModel = new MultipleSelectionModel<>(items);
+	protected boolean itemsDiffing = false;
+	private final BooleanProperty sharedRipple = new SimpleBooleanProperty(false);
+	private MFXSharedRippleGenerator sharedRippleGenerator;
+	protected final FastScrollDetector fastScrollDetector = new FastScrollDetector();
+	private final boolean variableCellHeights;
 
 	//================================================================================
 	// Constructors
 	//================================================================================
-	public AbstractMFXListView() {}
+	public AbstractMFXListView() {
+		this.variableCellHeights = false;
+	}
 
 	public AbstractMFXListView(ObservableList<T> items) {
+		this(items, false);
+	}
+
+	public AbstractMFXListView(ObservableList<T> items, boolean variableCellHeights) {
+		this.variableCellHeights = variableCellHeights;
 		setItems(items);
 	}
 
@@ -76,6 +98,51 @@ protected void initialize() {
 		addBarsListeners();
 	}
 
+	/**
+	 * Convenience method for {@link #setItemsDiffed(List, Function)}, the items are matched by equality.
+	 */
+	public void setItemsDiffed(List<? extends T> items) {
+		setItemsDiffed(items, null);
+	}
+
+	/**
+	 * Makes the items list contain the given items by applying the minimal changes, computed by {@link ListDiff},
+	 * rather than replacing all the items. The cells of the unchanged items are not updated, and the selection
+	 * and the scroll position are kept.
+	 * <p>
+	 * Items are matched by the keys extracted by the given function, an item with the same key of an old item
+	 * replaces it, keeping it selected.
+	 * <p>
+	 * While the changes are applied {@link #itemsDiffing} is true, subclasses should not update the selection
+	 * on items changes in the meantime, as it's updated at the end.
+	 *
+	 * @param keyExtractor the function extracting the items' keys, null to match the items by equality
+	 */
+	public void setItemsDiffed(List<? extends T> items, Function<? super T, ?> keyExtractor) {
+		ObservableList<T> current = getItems();
+		ListDiff<T> diff = ListDiff.compute(current, items, keyExtractor);
+		if (diff.isEmpty()) return;
+
+		List<Integer> selected = new ArrayList<>();
+		for (Integer index : selectionModel.getSelection().keySet()) {
+			int newIndex = diff.getNewIndex(index);
+			if (newIndex != -1) selected.add(newIndex);
+		}
+
+		itemsDiffing = true;
+		try {
+			diff.applyTo(current);
+		} finally {
+			itemsDiffing = false;
+		}
+
+		if (selected.isEmpty()) {
+			if (!selectionModel.getSelection().isEmpty()) selectionModel.clearSelection();
+		} else {
+			selectionModel.replaceSelection(selected.toArray(new Integer[0]));
+		}
+	}
+
 	protected void addBarsListeners() {
 		this.trackColor.addListener((observable, oldValue, newValue) -> {
 			if (!newValue.equals(oldValue)) {
@@ -215,6 +282,71 @@ public IMultipleSelectionModel<T> getSelectionModel() {
 		return selectionModel;
 	}
 
+	/**
+	 * @return whether the cells of this list view can have different heights, set at construction
+	 */
+	public boolean isVariableCellHeights() {
+		return variableCellHeights;
+	}
+
+	public boolean isSharedRipple() {
+		return sharedRipple.get();
+	}
+
+	/**
+	 * Specifies whether the cells should use a single {@link MFXSharedRippleGenerator}, {@link #getSharedRippleGenerator()},
+	 * rather than building a ripple generator each.
+	 * <p>
+	 * This is read when the cells are built, so it should be set before the list is shown.
+	 */
+	public BooleanProperty sharedRippleProperty() {
+		return sharedRipple;
+	}
+
+	public void setSharedRipple(boolean sharedRipple) {
+		this.sharedRipple.set(sharedRipple);
+	}
+
+	public double getFastScrollThreshold() {
+		return fastScrollDetector.getThreshold();
+	}
+
+	/**
+	 * Specifies the scroll velocity, in pixels per second, above which the cells entering the viewport
+	 * show a placeholder rather than their item, see {@link AbstractMFXListCell#isPlaceholder()}.
+	 * The cells are updated once the scroll slows down or stops.
+	 * <p>
+	 * Values less than or equal to 0 disable the fast-scroll mode, this is the default.
+	 */
+	public DoubleProperty fastScrollThresholdProperty() {
+		return fastScrollDetector.thresholdProperty();
+	}
+
+	public void setFastScrollThreshold(double fastScrollThreshold) {
+		fastScrollDetector.setThreshold(fastScrollThreshold);
+	}
+
+	public boolean isFastScrolling() {
+		return fastScrollDetector.isFastScrolling();
+	}
+
+	/**
+	 * Specifies whether the list is being scrolled faster than the {@link #fastScrollThresholdProperty()}.
+	 */
+	public ReadOnlyBooleanProperty fastScrollingProperty() {
+		return fastScrollDetector.fastScrollingProperty();
+	}
+
+	/**
+	 * @return the ripple generator shared by the cells when {@link #sharedRippleProperty()} is true, built on first access
+	 */
+	public MFXSharedRippleGenerator getSharedRippleGenerator() {
+		if (sharedRippleGenerator == null) {
+			sharedRippleGenerator = new MFXSharedRippleGenerator();
+		}
+		return sharedRippleGenerator;
+	}
+
 	//================================================================================
 	// Styleable Properties
 	//================================================================================
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.controls.cell;
+
+import io.github.palexdev.materialfx.collections.LRUCache;
+import javafx.application.Platform;
+import javafx.beans.property.*;
+import javafx.css.PseudoClass;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Variant of {@link MFXTableRowCell} for expensive extractors, the data is resolved asynchronously
+ * so that the cell's update doesn't block the scrolling.
+ * <p>
+ * The extractor returns a {@link CompletableFuture}, it is invoked on the cell's {@link #executorProperty()}.
+ * Until the future completes the cell shows the {@link #placeholderProperty()} and has the ":loading" PseudoClass
+ * active. The result is applied on the JavaFX thread, and only if the cell has not been updated in the meantime,
+ * otherwise it is just cached.
+ * <p>
+ * Cells are built by the column's factory for each row, so to make the scrolling back instant the resolved values
+ * should be stored in an {@link LRUCache} shared by all the cells of the column, for example:
+ * <pre>
+ * {@code
+ * LRUCache<Person, Address> cache = new LRUCache<>(500);
+ * column.setRowCellFactory(person -> new MFXAsyncTableRowCell<>(service::lookupAddress, Address::toString, cache));
+ * }
+ * </pre>
+ * The cache uses the items as keys, so they should implement {@code equals} and {@code hashCode} properly.
+ */
+public class MFXAsyncTableRowCell<T, E> extends MFXTableRowCell<T, E> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final Object MISSING = new Object();
+	private static final PseudoClass LOADING_PSEUDO_CLASS = PseudoClass.getPseudoClass("loading");
+
+	private final Function<T, CompletableFuture<E>> asyncExtractor;
+	private final LRUCache<T, E> cache;
+	private final StringProperty placeholder = new SimpleStringProperty("...");
+	private final ObjectProperty<Executor> executor = new SimpleObjectProperty<>(ForkJoinPool.commonPool());
+	private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper();
+	private long generation = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXAsyncTableRowCell(Function<T, CompletableFuture<E>> extractor) {
+		this(extractor, Objects::toString);
+	}
+
+	public MFXAsyncTableRowCell(Function<T, CompletableFuture<E>> extractor, Function<E, String> converter) {
+		this(extractor, converter, null);
+	}
+
+	public MFXAsyncTableRowCell(Function<T, CompletableFuture<E>> extractor, Function<E, String> converter, LRUCache<T, E> cache) {
+		super(null, converter);
+		this.asyncExtractor = extractor;
+		this.cache = cache;
+		loading.addListener(invalidated -> pseudoClassStateChanged(LOADING_PSEUDO_CLASS, loading.get()));
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Resolves the data asynchronously, see {@link #executorProperty()}.
+	 * <p>
+	 * Any resolved value is cached, but it is shown only if the given generation is still the current one.
+	 */
+	protected void resolve(T item, long generation) {
+		CompletableFuture.supplyAsync(() -> asyncExtractor.apply(item), getExecutor())
+				.thenCompose(future -> future)
+				.whenComplete((data, ex) -> {
+					if (ex == null && cache != null) cache.put(item, data);
+					Platform.runLater(() -> {
+						if (generation != this.generation) return;
+						setLoading(false);
+						if (ex == null) setText(getConverter().toString(data));
+					});
+				});
+	}
+
+	/**
+	 * @return the cached value for the given item or {@code MISSING}
+	 */
+	@SuppressWarnings("unchecked")
+	private Object getCached(T item) {
+		return cache != null ? cache.getOrDefault(item, (E) MISSING) : MISSING;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to show the cached value if present, otherwise the placeholder is shown while the
+	 * value is resolved, see {@link #resolve(Object, long)}.
+	 * <p>
+	 * Any pending result for a previous item is discarded.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void update(T item) {
+		long generation = ++this.generation;
+		if (asyncExtractor == null) return;
+
+		Object cached = getCached(item);
+		if (cached != MISSING) {
+			setLoading(false);
+			setText(getConverter().toString((E) cached));
+			return;
+		}
+
+		setLoading(true);
+		setText(getPlaceholder());
+		resolve(item, generation);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to use the cached value if present, otherwise the extractor is invoked and its
+	 * result awaited, so this should not be called on the JavaFX thread for items that are not cached.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public String computeText(T item) {
+		if (asyncExtractor == null) return "";
+
+		Object cached = getCached(item);
+		E data = cached != MISSING ? (E) cached : asyncExtractor.apply(item).join();
+		return getConverter().toString(data);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the cache shared by the column's cells, may be null
+	 */
+	public LRUCache<T, E> getCache() {
+		return cache;
+	}
+
+	public String getPlaceholder() {
+		return placeholder.get();
+	}
+
+	/**
+	 * Specifies the text shown while the cell's data is being resolved.
+	 */
+	public StringProperty placeholderProperty() {
+		return placeholder;
+	}
+
+	public void setPlaceholder(String placeholder) {
+		this.placeholder.set(placeholder);
+	}
+
+	public Executor getExecutor() {
+		return executor.get();
+	}
+
+	/**
+	 * Specifies the {@link Executor} on which the extractor is invoked.
+	 * <p>
+	 * By default, it's the {@link ForkJoinPool#commonPool()}.
+	 */
+	public ObjectProperty<Executor> executorProperty() {
+		return executor;
+	}
+
+	public void setExecutor(Executor executor) {
+		this.executor.set(executor);
+	}
+
+	public boolean isLoading() {
+		return loading.get();
+	}
+
+	/**
+	 * Specifies whether the cell is waiting for its data to be resolved.
+	 * <p>
+	 * Can be styled in CSS with the ":loading" PseudoClass.
+	 */
+	public ReadOnlyBooleanProperty loadingProperty() {
+		return loading.getReadOnlyProperty();
+	}
+
+	protected void setLoading(boolean loading) {
+		this.loading.set(loading);
+	}
+}
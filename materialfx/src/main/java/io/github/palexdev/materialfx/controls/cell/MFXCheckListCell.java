@@ -24,6 +24,7 @@
 import io.github.palexdev.materialfx.controls.MFXCheckbox;
 import io.github.palexdev.materialfx.controls.cell.base.AbstractMFXListCell;
 import io.github.palexdev.materialfx.effects.ripple.MFXCircleRippleGenerator;
+import io.github.palexdev.materialfx.effects.ripple.MFXSharedRippleGenerator;
 import io.github.palexdev.materialfx.utils.NodeUtils;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectExpression;
@@ -47,7 +48,7 @@
 	//================================================================================
 	private final String STYLE_CLASS = "mfx-check-list-cell";
 	private final String STYLESHEET = MFXResourcesLoader.load("css/MFXCheckListCell.css");
-	protected final MFXCircleRippleGenerator rippleGenerator = new MFXCircleRippleGenerator(this);
+	protected final MFXCircleRippleGenerator rippleGenerator;
 
 	private final MFXCheckListView<T> listView;
 	protected final MFXCheckbox checkbox;
@@ -59,6 +60,7 @@
 	public MFXCheckListCell(MFXCheckListView<T> listView, T data) {
 		super(listView, data);
 		this.listView = listView;
+		rippleGenerator = listView.isSharedRipple() ? listView.getSharedRippleGenerator() : new MFXCircleRippleGenerator(this);
 		checkbox = new MFXCheckbox("");
 		checkbox.getStylesheets().setAll(getUserAgentStylesheet());
 
@@ -69,6 +71,7 @@ public MFXCheckListCell(MFXCheckListView<T> listView, T data) {
 					dataProperty(), listView.converterProperty()
 			));
 			label.getStyleClass().add("data-label");
+			label.setWrapText(listView.isVariableCellHeights());
 		} else {
 			label = null;
 		}
@@ -94,11 +97,15 @@ protected void initialize() {
 
 	/**
 	 * Sets up the properties of the ripple generator and adds the mouse pressed filter.
+	 * <p>
+	 * The properties of the shared generator, see {@link #isSharedRipple()}, are left untouched.
 	 */
 	protected void setupRippleGenerator() {
-		rippleGenerator.setManaged(false);
-		rippleGenerator.setRipplePositionFunction(event -> PositionBean.of(event.getX(), event.getY()));
-		rippleGenerator.rippleRadiusProperty().bind(widthProperty().divide(2.0));
+		if (!isSharedRipple()) {
+			rippleGenerator.setManaged(false);
+			rippleGenerator.setRipplePositionFunction(event -> PositionBean.of(event.getX(), event.getY()));
+			rippleGenerator.rippleRadiusProperty().bind(widthProperty().divide(2.0));
+		}
 		addEventFilter(MouseEvent.MOUSE_PRESSED, event -> {
 			if (NodeUtils.inHierarchy(event, checkbox)) {
 				rippleGenerator.generateRipple(event);
@@ -120,6 +127,13 @@ private void updateSelection(boolean checked) {
 		}
 	}
 
+	/**
+	 * @return whether the cell uses the list's shared ripple generator rather than its own
+	 */
+	protected boolean isSharedRipple() {
+		return rippleGenerator instanceof MFXSharedRippleGenerator;
+	}
+
 	//================================================================================
 	// Overridden/Implemented Methods
 	//================================================================================
@@ -130,44 +144,48 @@ private void updateSelection(boolean checked) {
 	@Override
 	protected void setBehavior() {
 		selected.addListener(invalidated -> pseudoClassStateChanged(SELECTED_PSEUDO_CLASS, selected.get()));
-		selected.bind(Bindings.createBooleanBinding(
-				() -> {
-					boolean contained = listView.getSelectionModel().getSelection().containsKey(index.get());
-					checkbox.setSelected(contained);
-					return contained;
-				},
-				listView.getSelectionModel().selectionProperty(), index
-		));
+		listenSelection();
 		checkbox.selectedProperty().addListener((observable, oldValue, newValue) -> updateSelection(newValue));
 	}
 
+	/**
+	 * Overridden to also keep the checkbox' state in sync with the selection.
+	 */
+	@Override
+	protected void updateSelected() {
+		boolean contained = listView.getSelectionModel().getSelection().containsKey(getIndex());
+		checkbox.setSelected(contained);
+		setSelected(contained);
+	}
+
 	/**
 	 * Responsible for rendering the cell's content.
 	 * <p>
 	 * If the given data type is a Node, it is added to the children list,
 	 * otherwise a label is used to display the data.
 	 * <p>
-	 * At the end adds a ripple generator at index 0.
+	 * At the end adds a ripple generator at index 0, unless it is shared.
 	 */
 	@Override
 	protected void render(T data) {
-		if (data instanceof Node) {
-			getChildren().setAll(rippleGenerator, checkbox, (Node) data);
+		Node content = (data instanceof Node) ? (Node) data : label;
+		if (isSharedRipple()) {
+			getChildren().setAll(checkbox, content);
 		} else {
-			getChildren().setAll(rippleGenerator, checkbox, label);
+			getChildren().setAll(rippleGenerator, checkbox, content);
 		}
 	}
 
 	/**
 	 * Updates the data property of the cell. If the data is a Node
-	 * {@link #render(Object)} is called.
+	 * {@link #render(Object)} is called, unless the cell is showing a placeholder.
 	 * <p>
 	 * This is called after {@link #updateIndex(int)}.
 	 */
 	@Override
 	public void updateItem(T item) {
 		super.updateItem(item);
-		if (item instanceof Node) render(item);
+		if (!isPlaceholder() && item instanceof Node) render(item);
 	}
 
 	@Override
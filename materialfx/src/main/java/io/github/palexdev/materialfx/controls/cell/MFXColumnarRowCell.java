@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.controls.cell;
+
+import io.github.palexdev.materialfx.collections.ColumnarData;
+import io.github.palexdev.materialfx.collections.ColumnarData.Column;
+import io.github.palexdev.materialfx.controls.MFXColumnarTableColumn;
+
+/**
+ * A special {@link MFXTableRowCell} for tables whose items are the rows of a {@link ColumnarData}.
+ * <p>
+ * Instead of extracting the data with a function, the cell's text is read directly from the given {@link Column}
+ * with {@link Column#format(int)}, so primitive values are never boxed.
+ *
+ * @see MFXColumnarTableColumn
+ */
+public class MFXColumnarRowCell extends MFXTableRowCell<Integer, Object> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Column column;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXColumnarRowCell(Column column) {
+		super(null);
+		this.column = column;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * The text is read from the column, see {@link #computeText(Integer)}.
+	 */
+	@Override
+	public void update(Integer row) {
+		setText(computeText(row));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * The text is read from the column for the given row index, it's empty for a null or negative index.
+	 */
+	@Override
+	public String computeText(Integer row) {
+		return (row == null || row < 0) ? "" : column.format(row);
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the data column from which the cell reads its text
+	 */
+	public Column getColumn() {
+		return column;
+	}
+}
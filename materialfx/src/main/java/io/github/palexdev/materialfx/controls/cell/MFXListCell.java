@@ -23,6 +23,7 @@
 import io.github.palexdev.materialfx.controls.MFXListView;
 import io.github.palexdev.materialfx.controls.cell.base.AbstractMFXListCell;
 import io.github.palexdev.materialfx.effects.ripple.MFXCircleRippleGenerator;
+import io.github.palexdev.materialfx.effects.ripple.MFXSharedRippleGenerator;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectExpression;
 import javafx.scene.Node;
@@ -46,7 +47,7 @@
 	//================================================================================
 	private final String STYLE_CLASS = "mfx-list-cell";
 	private final String STYLESHEET = MFXResourcesLoader.load("css/MFXListCell.css");
-	protected final MFXCircleRippleGenerator rippleGenerator = new MFXCircleRippleGenerator(this);
+	protected final MFXCircleRippleGenerator rippleGenerator;
 
 	private final Label label;
 
@@ -55,6 +56,7 @@
 	//================================================================================
 	public MFXListCell(MFXListView<T> listView, T data) {
 		super(listView, data);
+		rippleGenerator = listView.isSharedRipple() ? listView.getSharedRippleGenerator() : new MFXCircleRippleGenerator(this);
 
 		if (!(data instanceof Node)) {
 			label = new Label();
@@ -63,6 +65,7 @@ public MFXListCell(MFXListView<T> listView, T data) {
 					dataProperty(), listView.converterProperty()
 			));
 			label.getStyleClass().add("data-label");
+			label.setWrapText(listView.isVariableCellHeights());
 		} else {
 			label = null;
 		}
@@ -88,11 +91,15 @@ protected void initialize() {
 
 	/**
 	 * Sets up the properties of the ripple generator and adds the mouse pressed filter.
+	 * <p>
+	 * The properties of the shared generator, see {@link #isSharedRipple()}, are left untouched.
 	 */
 	protected void setupRippleGenerator() {
-		rippleGenerator.setManaged(false);
-		rippleGenerator.setRipplePositionFunction(event -> PositionBean.of(event.getX(), event.getY()));
-		rippleGenerator.rippleRadiusProperty().bind(widthProperty().divide(2.0));
+		if (!isSharedRipple()) {
+			rippleGenerator.setManaged(false);
+			rippleGenerator.setRipplePositionFunction(event -> PositionBean.of(event.getX(), event.getY()));
+			rippleGenerator.rippleRadiusProperty().bind(widthProperty().divide(2.0));
+		}
 		addEventFilter(MouseEvent.MOUSE_PRESSED, event -> {
 			if (event.getButton() == MouseButton.PRIMARY) {
 				rippleGenerator.generateRipple(event);
@@ -100,6 +107,13 @@ protected void setupRippleGenerator() {
 		});
 	}
 
+	/**
+	 * @return whether the cell uses the list's shared ripple generator rather than its own
+	 */
+	protected boolean isSharedRipple() {
+		return rippleGenerator instanceof MFXSharedRippleGenerator;
+	}
+
 	//================================================================================
 	// Overridden/Implemented Methods
 	//================================================================================
@@ -110,27 +124,28 @@ protected void setupRippleGenerator() {
 	 * If the given data type is a Node, it is added to the children list,
 	 * otherwise a label is used to display the data.
 	 * <p>
-	 * At the end adds a ripple generator at index 0.
+	 * At the end adds a ripple generator at index 0, unless it is shared.
 	 */
 	@Override
 	protected void render(T data) {
-		if (data instanceof Node) {
-			getChildren().setAll(rippleGenerator, (Node) data);
+		Node content = (data instanceof Node) ? (Node) data : label;
+		if (isSharedRipple()) {
+			getChildren().setAll(content);
 		} else {
-			getChildren().setAll(rippleGenerator, label);
+			getChildren().setAll(rippleGenerator, content);
 		}
 	}
 
 	/**
 	 * Updates the data property of the cell. If the data is a Node
-	 * {@link #render(Object)} is called.
+	 * {@link #render(Object)} is called, unless the cell is showing a placeholder.
 	 * <p>
 	 * This is called after {@link #updateIndex(int)}.
 	 */
 	@Override
 	public void updateItem(T item) {
 		super.updateItem(item);
-		if (item instanceof Node) render(item);
+		if (!isPlaceholder() && item instanceof Node) render(item);
 	}
 
 	@Override
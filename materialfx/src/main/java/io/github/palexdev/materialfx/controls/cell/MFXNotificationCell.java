@@ -22,10 +22,12 @@
 import io.github.palexdev.materialfx.controls.MFXNotificationCenter;
 import io.github.palexdev.materialfx.effects.Interpolators;
 import io.github.palexdev.materialfx.notifications.base.INotification;
+import io.github.palexdev.materialfx.selection.MultipleSelectionModel;
 import io.github.palexdev.materialfx.utils.AnimationUtils.KeyFrames;
 import io.github.palexdev.materialfx.utils.AnimationUtils.ParallelBuilder;
 import io.github.palexdev.virtualizedfx.cell.Cell;
-import javafx.beans.binding.Bindings;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.*;
 import javafx.css.PseudoClass;
 import javafx.geometry.Pos;
@@ -48,6 +50,8 @@ public class MFXNotificationCell extends HBox implements Cell<INotification> {
 	private final ReadOnlyObjectWrapper<INotification> notification = new ReadOnlyObjectWrapper<>();
 	private final ReadOnlyIntegerWrapper index = new ReadOnlyIntegerWrapper();
 	private final ReadOnlyBooleanWrapper selected = new ReadOnlyBooleanWrapper();
+	private final InvalidationListener selectionListener = invalidated -> updateSelected();
+	private final WeakInvalidationListener weakSelectionListener = new WeakInvalidationListener(selectionListener);
 
 	protected final PseudoClass SELECTED_PSEUDO_CLASS = PseudoClass.getPseudoClass("selected");
 	protected final StackPane container;
@@ -98,23 +102,35 @@ private void initialize() {
 	/**
 	 * Sets the following behaviors:
 	 * <p>
-	 * - Binds the selected property to the notification center' selection model (checks for index). <p>
+	 * - Listens to the selection state of the cell's index only, see {@link MultipleSelectionModel#addIndexListener(int, InvalidationListener)}. <p>
 	 * - Updates the selected PseudoClass state when selected property changes. <p>
 	 * - Adds a listener to the checkbox' selection state to call {@link #updateSelection(boolean)}. <p>
 	 * - Adds a listener to the notification center's {@link MFXNotificationCenter#selectionModeProperty()} to call {@link #expand(boolean)}.
 	 */
 	protected void setBehavior() {
 		selected.addListener(invalidated -> pseudoClassStateChanged(SELECTED_PSEUDO_CLASS, selected.get()));
-		selected.bind(Bindings.createBooleanBinding(() -> {
-			boolean contained = notificationCenter.getSelectionModel().getSelection().containsKey(getIndex());
-			checkbox.setSelected(contained);
-			return contained;
-		}, notificationCenter.getSelectionModel().selectionProperty(), index));
+		MultipleSelectionModel<INotification> selectionModel = notificationCenter.getSelectionModel();
+		selectionModel.addIndexListener(getIndex(), weakSelectionListener);
+		index.addListener((observable, oldValue, newValue) -> {
+			selectionModel.removeIndexListener(oldValue.intValue(), weakSelectionListener);
+			selectionModel.addIndexListener(newValue.intValue(), weakSelectionListener);
+			updateSelected();
+		});
+		updateSelected();
 
 		checkbox.selectedProperty().addListener((observable, oldValue, newValue) -> updateSelection(newValue));
 		notificationCenter.selectionModeProperty().addListener((observable, oldValue, newValue) -> expand(newValue));
 	}
 
+	/**
+	 * Updates the selected property and the checkbox' state by checking if the cell's index is in the selection.
+	 */
+	protected void updateSelected() {
+		boolean contained = notificationCenter.getSelectionModel().getSelection().containsKey(getIndex());
+		checkbox.setSelected(contained);
+		setSelected(contained);
+	}
+
 	/**
 	 * Responsible for rendering the cell's content.
 	 */
@@ -191,6 +207,14 @@ public void updateIndex(int index) {
 		setIndex(index);
 	}
 
+	/**
+	 * Stops listening to the selection state of the cell's index.
+	 */
+	@Override
+	public void dispose() {
+		notificationCenter.getSelectionModel().removeIndexListener(getIndex(), weakSelectionListener);
+	}
+
 	/**
 	 * Ensures that the combobox container is properly expanded
 	 * after the cell has been laid out.
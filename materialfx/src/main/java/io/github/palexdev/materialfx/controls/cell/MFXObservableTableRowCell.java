@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.controls.cell;
+
+import io.github.palexdev.materialfx.controls.MFXTableView;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.value.ObservableValue;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Variant of {@link MFXTableRowCell} for models that use observables.
+ * <p>
+ * The extractor returns the {@link ObservableValue} of the item that the cell represents, the cell listens to it
+ * and updates its text only when it changes, so there's no need to call {@link MFXTableView#update()} or
+ * {@link MFXTableView#refresh(Object)} when the value changes. When the row's item changes, the listener is moved
+ * to the new item's observable.
+ * <p>
+ * The observable can also be changed from a thread other than the JavaFX one, in such case the update is
+ * executed later on the JavaFX thread, and any other change occurred meanwhile is coalesced in the same update.
+ */
+public class MFXObservableTableRowCell<T, E> extends MFXTableRowCell<T, E> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Function<T, ObservableValue<E>> observableExtractor;
+	private ObservableValue<E> observable;
+	private final InvalidationListener valueListener = invalidated -> valueChanged();
+	private final WeakInvalidationListener weakValueListener = new WeakInvalidationListener(valueListener);
+	private boolean updateScheduled = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXObservableTableRowCell(Function<T, ObservableValue<E>> extractor) {
+		this(extractor, Objects::toString);
+	}
+
+	public MFXObservableTableRowCell(Function<T, ObservableValue<E>> extractor, Function<E, String> converter) {
+		super(item -> {
+			ObservableValue<E> observable = extractor.apply(item);
+			return observable != null ? observable.getValue() : null;
+		}, converter);
+		this.observableExtractor = extractor;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Called when the observed value changes.
+	 * <p>
+	 * On the JavaFX thread the text is updated immediately, otherwise an update is scheduled
+	 * with {@link Platform#runLater(Runnable)} unless one is already pending.
+	 */
+	protected void valueChanged() {
+		if (Platform.isFxApplicationThread()) {
+			updateText();
+			return;
+		}
+
+		synchronized (this) {
+			if (updateScheduled) return;
+			updateScheduled = true;
+		}
+		Platform.runLater(() -> {
+			synchronized (this) {
+				updateScheduled = false;
+			}
+			updateText();
+		});
+	}
+
+	/**
+	 * Sets the cell's text by converting the current value of the observed {@link ObservableValue}.
+	 */
+	protected void updateText() {
+		setText(getConverter().toString(observable != null ? observable.getValue() : null));
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to move the listener to the observable of the given item before updating the text.
+	 */
+	@Override
+	public void update(T item) {
+		ObservableValue<E> observable = item != null ? observableExtractor.apply(item) : null;
+		if (observable != this.observable) {
+			if (this.observable != null) this.observable.removeListener(weakValueListener);
+			this.observable = observable;
+			if (observable != null) observable.addListener(weakValueListener);
+		}
+		updateText();
+	}
+}
@@ -97,8 +97,30 @@ private void initialize() {
 	 */
 	public void update(T item) {
 		if (extractor == null) return;
+		setText(computeText(item));
+	}
+
+	/**
+	 * Computes the text the cell would show for the given item without updating the cell.
+	 * <p>
+	 * Only the extractor and the converter are involved, so this can be called from any thread
+	 * as long as they can.
+	 */
+	public String computeText(T item) {
+		if (extractor == null) return "";
 		E data = extractor.apply(item);
-		setText(converter.toString(data));
+		return converter.toString(data);
+	}
+
+	/**
+	 * Specifies whether the table view can cache the text of this cell, see {@link MFXTableView#textCacheSizeProperty()}.
+	 * When the cached text is used, it is set directly and {@link #update(Object)} is not called.
+	 * <p>
+	 * By default, only instances of this exact class are cacheable, since subclasses may override {@link #update(Object)}
+	 * to do more than computing the text. Subclasses that don't can override this to return true.
+	 */
+	public boolean isTextCacheable() {
+		return getClass() == MFXTableRowCell.class && extractor != null;
 	}
 
 	/**
@@ -129,6 +151,14 @@ public String getUserAgentStylesheet() {
 	//================================================================================
 	// Getters/Setters
 	//================================================================================
+
+	/**
+	 * @return the converter used to compute the cell's text from the extracted data
+	 */
+	public StringConverter<E> getConverter() {
+		return converter;
+	}
+
 	public Node getLeadingGraphic() {
 		return leadingGraphic.get();
 	}
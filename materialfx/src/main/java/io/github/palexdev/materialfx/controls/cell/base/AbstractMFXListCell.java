@@ -20,8 +20,10 @@
 
 import io.github.palexdev.materialfx.controls.base.AbstractMFXListView;
 import io.github.palexdev.materialfx.selection.MultipleSelectionModel;
+import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
 import io.github.palexdev.virtualizedfx.cell.Cell;
-import javafx.beans.binding.Bindings;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.*;
 import javafx.css.PseudoClass;
 import javafx.geometry.Pos;
@@ -48,6 +50,12 @@
 
 	protected final ReadOnlyBooleanWrapper selected = new ReadOnlyBooleanWrapper();
 	protected final PseudoClass SELECTED_PSEUDO_CLASS = PseudoClass.getPseudoClass("selected");
+	private final InvalidationListener selectionListener = invalidated -> updateSelected();
+	private final WeakInvalidationListener weakSelectionListener = new WeakInvalidationListener(selectionListener);
+
+	private final ReadOnlyBooleanWrapper placeholder = new ReadOnlyBooleanWrapper();
+	protected final PseudoClass PLACEHOLDER_PSEUDO_CLASS = PseudoClass.getPseudoClass("placeholder");
+	private T pendingItem;
 
 	//================================================================================
 	// Constructors
@@ -55,8 +63,12 @@
 	public AbstractMFXListCell(AbstractMFXListView<T, ?> listView, T data) {
 		this.listView = listView;
 		setData(data);
-		setPrefHeight(32);
-		setMaxHeight(USE_PREF_SIZE);
+		if (listView.isVariableCellHeights()) {
+			setMinHeight(32);
+		} else {
+			setPrefHeight(32);
+			setMaxHeight(USE_PREF_SIZE);
+		}
 		setAlignment(Pos.CENTER_LEFT);
 		setSpacing(5);
 	}
@@ -80,20 +92,42 @@ protected void initialize() {
 	/**
 	 * Sets the following behaviors:
 	 * <p>
-	 * - Binds the selected property to the list' selection model (checks for index). <p>
+	 * - Listens to the selection state of the cell's index, see {@link #listenSelection()}. <p>
 	 * - Updates the selected PseudoClass state when selected property changes.<p>
 	 * - Adds and handler for MOUSE_PRESSED events to call {@link #updateSelection(MouseEvent)}.
 	 */
 	protected void setBehavior() {
 		selected.addListener(invalidated -> pseudoClassStateChanged(SELECTED_PSEUDO_CLASS, selected.get()));
-		selected.bind(Bindings.createBooleanBinding(
-				() -> listView.getSelectionModel().getSelection().containsKey(index.get()),
-				listView.getSelectionModel().selectionProperty(), index
-		));
+		placeholder.addListener(invalidated -> pseudoClassStateChanged(PLACEHOLDER_PSEUDO_CLASS, placeholder.get()));
+		listenSelection();
 
 		addEventFilter(MouseEvent.MOUSE_PRESSED, this::updateSelection);
 	}
 
+	/**
+	 * Subscribes to the selection state of the cell's index only, see
+	 * {@link IMultipleSelectionModel#addIndexListener(int, InvalidationListener)}, so that
+	 * {@link #updateSelected()} is called only when the cell's state may have changed.
+	 * The subscription is moved when the index changes.
+	 */
+	protected void listenSelection() {
+		IMultipleSelectionModel<T> selectionModel = listView.getSelectionModel();
+		selectionModel.addIndexListener(getIndex(), weakSelectionListener);
+		index.addListener((observable, oldValue, newValue) -> {
+			selectionModel.removeIndexListener(oldValue.intValue(), weakSelectionListener);
+			selectionModel.addIndexListener(newValue.intValue(), weakSelectionListener);
+			updateSelected();
+		});
+		updateSelected();
+	}
+
+	/**
+	 * Updates the selected property by checking if the cell's index is in the selection.
+	 */
+	protected void updateSelected() {
+		setSelected(listView.getSelectionModel().getSelection().containsKey(getIndex()));
+	}
+
 	/**
 	 * If the pressed mouse button is not the primary, exits immediately.
 	 * <p>
@@ -140,13 +174,40 @@ public void updateIndex(int index) {
 	/**
 	 * Updates the data property of the cell.
 	 * <p>
+	 * While the list is scrolled fast, {@link AbstractMFXListView#isFastScrolling()}, the data property is not updated,
+	 * and the cell shows a placeholder instead, see {@link #isPlaceholder()}. The item is kept and set by
+	 * {@link #resolvePlaceholder()}.
+	 * <p>
 	 * This is called after {@link #updateIndex(int)}.
 	 */
 	@Override
 	public void updateItem(T item) {
+		if (listView.isFastScrolling()) {
+			pendingItem = item;
+			setPlaceholder(true);
+			return;
+		}
+		pendingItem = null;
+		setPlaceholder(false);
 		setData(item);
 	}
 
+	/**
+	 * If the cell is showing a placeholder, {@link #isPlaceholder()}, updates it with the last item
+	 * given to {@link #updateItem(Object)}.
+	 */
+	public void resolvePlaceholder() {
+		if (isPlaceholder()) updateItem(pendingItem);
+	}
+
+	/**
+	 * Stops listening to the selection state of the cell's index.
+	 */
+	@Override
+	public void dispose() {
+		listView.getSelectionModel().removeIndexListener(getIndex(), weakSelectionListener);
+	}
+
 	//================================================================================
 	// Getters/Setters
 	//================================================================================
@@ -194,4 +255,23 @@ public ReadOnlyBooleanProperty selectedProperty() {
 	protected void setSelected(boolean selected) {
 		this.selected.set(selected);
 	}
+
+	public boolean isPlaceholder() {
+		return placeholder.get();
+	}
+
+	/**
+	 * Specifies whether the cell's data is out of date because the cell has been updated
+	 * during fast scrolling, see {@link AbstractMFXListView#fastScrollThresholdProperty()}.
+	 * <p>
+	 * The cell has the ":placeholder" PseudoClass in this state, by default the content is hidden
+	 * and a skeleton bar is shown instead.
+	 */
+	public ReadOnlyBooleanProperty placeholderProperty() {
+		return placeholder.getReadOnlyProperty();
+	}
+
+	protected void setPlaceholder(boolean placeholder) {
+		this.placeholder.set(placeholder);
+	}
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.materialfx.effects.ripple;
+
+import io.github.palexdev.materialfx.beans.PositionBean;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+/**
+ * Extension of {@link MFXCircleRippleGenerator} meant to be shared by many panes of the same container,
+ * typically the cells of a virtual flow, so that a single generator is built instead of one per cell.
+ * <p>
+ * The generator is not tied to a specific region. When a ripple is generated the generator is moved, if needed,
+ * into the pane on which the event handler/filter was registered, {@link MouseEvent#getSource()}, at index 0 so that
+ * the ripples are behind the content, like a non-shared generator would be.
+ * <p>
+ * Internally, the {@link #getRegion()} is a detached {@link Region} that takes the size and the background of the
+ * current pane each time a ripple is generated, so that bounds checks, clips and the ripple radius work as for a
+ * non-shared generator.
+ * <p></p>
+ * Usage example:
+ * <pre>
+ * {@code
+ *      MFXSharedRippleGenerator generator = new MFXSharedRippleGenerator();
+ *      // For each cell, there's no need to add the generator to the cell
+ *      cell.addEventFilter(MouseEvent.MOUSE_PRESSED, generator::generateRipple);
+ * }
+ * </pre>
+ * <p>
+ * Note that since a pane can only have one parent, generating a ripple in a pane removes the generator
+ * (and so the ripples still animating) from the previous one.
+ */
+public class MFXSharedRippleGenerator extends MFXCircleRippleGenerator {
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MFXSharedRippleGenerator() {
+		super(new Region());
+		setManaged(false);
+		setRipplePositionFunction(event -> PositionBean.of(event.getX(), event.getY()));
+		rippleRadiusProperty().bind(region.widthProperty().divide(2.0));
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Moves the generator into the given pane, if not already there,
+	 * and updates the size and the background of the {@link #getRegion()}.
+	 */
+	public void attach(Pane pane) {
+		if (getParent() != pane) {
+			pane.getChildren().add(0, this);
+			applyCss();
+		}
+		region.resize(pane.getWidth(), pane.getHeight());
+		region.setBackground(pane.getBackground());
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * If the event's source is a {@link Pane} calls {@link #attach(Pane)}, then generates the ripple.
+	 */
+	@Override
+	public void generateRipple(MouseEvent event) {
+		if (event != null && event.getSource() instanceof Pane) {
+			attach((Pane) event.getSource());
+		}
+		super.generateRipple(event);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.palexdev.materialfx.enums;
+
+import io.github.palexdev.materialfx.collections.TransformableList;
+
+import java.util.function.Predicate;
+
+/**
+ * Enumeration to specify how a new {@link Predicate} relates to the previous one,
+ * used by {@link TransformableList#setPredicate(Predicate, Refinement)}.
+ * <p> - NONE: no relation is known, the whole source is filtered again
+ * <p> - NARROWING: the new predicate is stricter than the previous one, every item that passes the new predicate
+ * also passes the previous one. Only the items currently in the view are tested again
+ * <p> - WIDENING: the new predicate is looser than the previous one, every item that passes the previous predicate
+ * also passes the new one. Only the items currently excluded from the view are tested again
+ */
+public enum Refinement {
+	NONE, NARROWING, WIDENING
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.filter;
+
+import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnarData;
+import io.github.palexdev.materialfx.collections.ColumnarData.DoubleColumn;
+import javafx.util.StringConverter;
+import javafx.util.converter.DoubleStringConverter;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Extension of {@link DoubleFilter} for the {@link DoubleColumn}s of a {@link ColumnarData}, the filtered
+ * objects are the rows' indexes.
+ * <p>
+ * The default {@link BiPredicateBean}s are applied directly to the primitive values stored in the column,
+ * without boxing them. Any other {@link BiPredicate} falls back to the standard behavior.
+ */
+public class DoubleColumnFilter extends DoubleFilter<Integer> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final DoubleColumn column;
+	private final PrimitiveColumnPredicates<Double> primitivePredicates;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public DoubleColumnFilter(String name, DoubleColumn column) {
+		this(name, column, new DoubleStringConverter());
+	}
+
+	public DoubleColumnFilter(String name, DoubleColumn column, StringConverter<Double> converter) {
+		super(name, column::get, converter);
+		this.column = column;
+		this.primitivePredicates = new PrimitiveColumnPredicates<>(
+				predicates,
+				(comparison, query) -> PrimitiveColumnPredicates.ofDouble(column, comparison, query)
+		);
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public Predicate<Integer> predicateFor(String input) {
+		int index = getSelectedPredicateIndex();
+		if (index >= 0) {
+			Predicate<Integer> predicate = primitivePredicates.predicateFor(predicates.get(index).predicate(), getValue(input));
+			if (predicate != null) return predicate;
+		}
+		return super.predicateFor(input);
+	}
+
+	@Override
+	public Predicate<Integer> predicateFor(String input, BiPredicate<Double, Double> biPredicate) {
+		Predicate<Integer> predicate = primitivePredicates.predicateFor(biPredicate, getValue(input));
+		return predicate != null ? predicate : super.predicateFor(input, biPredicate);
+	}
+
+	/**
+	 * @return the column on which this filter operates
+	 */
+	public DoubleColumn getColumn() {
+		return column;
+	}
+}
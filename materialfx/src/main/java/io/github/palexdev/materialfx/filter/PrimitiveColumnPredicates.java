@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.filter;
+
+import io.github.palexdev.materialfx.beans.BiPredicateBean;
+import io.github.palexdev.materialfx.collections.ColumnarData.DoubleColumn;
+import io.github.palexdev.materialfx.collections.ColumnarData.IntColumn;
+import io.github.palexdev.materialfx.collections.ColumnarData.LongColumn;
+import io.github.palexdev.materialfx.i18n.I18N;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Helper shared by the filters of {@link io.github.palexdev.materialfx.collections.ColumnarData}'s numeric columns,
+ * builds the {@link Predicate}s that apply the default {@link BiPredicateBean}s of the number filters directly
+ * to the primitive values stored in a column, without boxing them.
+ * <p>
+ * The default predicates are recognized by their name, so the position of a predicate in the filter's list
+ * doesn't matter. Predicates that are not among the defaults are not handled, {@link #predicateFor(BiPredicate, Number)}
+ * returns null for them.
+ */
+final class PrimitiveColumnPredicates<U extends Number> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Map<BiPredicate<U, U>, Comparison> comparisons = new IdentityHashMap<>();
+	private final BiFunction<Comparison, U, Predicate<Integer>> factory;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+
+	/**
+	 * @param defaults the default predicates of the filter
+	 * @param factory  the function building the predicate for a comparison and a query value
+	 */
+	PrimitiveColumnPredicates(List<BiPredicateBean<U, U>> defaults, BiFunction<Comparison, U, Predicate<Integer>> factory) {
+		this.factory = factory;
+		for (BiPredicateBean<U, U> bean : defaults) {
+			Comparison comparison = Comparison.forName(bean.name());
+			if (comparison != null) comparisons.put(bean.predicate(), comparison);
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the {@link Predicate} applying the given default {@link BiPredicate} directly to the column's values,
+	 * null if the given one is not a default predicate or the query is null
+	 */
+	Predicate<Integer> predicateFor(BiPredicate<U, U> biPredicate, U query) {
+		Comparison comparison = comparisons.get(biPredicate);
+		return (comparison != null && query != null) ? factory.apply(comparison, query) : null;
+	}
+
+	static Predicate<Integer> ofInt(IntColumn column, Comparison comparison, int value) {
+		switch (comparison) {
+			case IS:
+				return row -> column.getInt(row) == value;
+			case IS_NOT:
+				return row -> column.getInt(row) != value;
+			case GREATER:
+				return row -> column.getInt(row) > value;
+			case GREATER_EQUAL:
+				return row -> column.getInt(row) >= value;
+			case LESSER:
+				return row -> column.getInt(row) < value;
+			default:
+				return row -> column.getInt(row) <= value;
+		}
+	}
+
+	static Predicate<Integer> ofLong(LongColumn column, Comparison comparison, long value) {
+		switch (comparison) {
+			case IS:
+				return row -> column.getLong(row) == value;
+			case IS_NOT:
+				return row -> column.getLong(row) != value;
+			case GREATER:
+				return row -> column.getLong(row) > value;
+			case GREATER_EQUAL:
+				return row -> column.getLong(row) >= value;
+			case LESSER:
+				return row -> column.getLong(row) < value;
+			default:
+				return row -> column.getLong(row) <= value;
+		}
+	}
+
+	/**
+	 * Equality is checked with {@link Double#compare(double, double)}, like {@link Double#equals(Object)} does.
+	 */
+	static Predicate<Integer> ofDouble(DoubleColumn column, Comparison comparison, double value) {
+		switch (comparison) {
+			case IS:
+				return row -> Double.compare(column.getDouble(row), value) == 0;
+			case IS_NOT:
+				return row -> Double.compare(column.getDouble(row), value) != 0;
+			case GREATER:
+				return row -> column.getDouble(row) > value;
+			case GREATER_EQUAL:
+				return row -> column.getDouble(row) >= value;
+			case LESSER:
+				return row -> column.getDouble(row) < value;
+			default:
+				return row -> column.getDouble(row) <= value;
+		}
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The comparisons made by the default predicates of the number filters, each with the key of its name.
+	 */
+	enum Comparison {
+		IS("filter.is"),
+		IS_NOT("filter.isNot"),
+		GREATER("filter.greater"),
+		GREATER_EQUAL("filter.greaterEqual"),
+		LESSER("filter.lesser"),
+		LESSER_EQUAL("filter.lesserEqual");
+
+		private final String key;
+
+		Comparison(String key) {
+			this.key = key;
+		}
+
+		/**
+		 * @return the comparison whose name is the given one, null if none
+		 */
+		static Comparison forName(String name) {
+			for (Comparison comparison : values()) {
+				if (I18N.getOrDefault(comparison.key).equals(name)) return comparison;
+			}
+			return null;
+		}
+	}
+}
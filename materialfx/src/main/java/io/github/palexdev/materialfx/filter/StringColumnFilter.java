@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.filter;
+
+import io.github.palexdev.materialfx.collections.ColumnarData;
+import io.github.palexdev.materialfx.collections.ColumnarData.StringColumn;
+import javafx.util.StringConverter;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Extension of {@link StringFilter} for the {@link StringColumn}s of a {@link ColumnarData}, the filtered
+ * objects are the rows' indexes.
+ * <p>
+ * Since Strings are dictionary-encoded, the {@link BiPredicate} is evaluated at most once per distinct String
+ * and the result is cached by dictionary code, so testing a row is just an array lookup.
+ */
+public class StringColumnFilter extends StringFilter<Integer> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final StringColumn column;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public StringColumnFilter(String name, StringColumn column) {
+		super(name, column::get);
+		this.column = column;
+	}
+
+	public StringColumnFilter(String name, StringColumn column, StringConverter<String> converter) {
+		super(name, column::get, converter);
+		this.column = column;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Builds a {@link Predicate} which tests the rows by the dictionary codes of their Strings.
+	 * <p>
+	 * The results are cached for the Strings in the dictionary at the moment the predicate is built, Strings added
+	 * later and nulls are tested every time.
+	 * The cache may be filled concurrently by multiple threads, this is fine since the results are always the same.
+	 */
+	private Predicate<Integer> columnPredicate(BiPredicate<String, String> biPredicate, String query) {
+		// 0 = not tested yet, 1 = passes, 2 = fails
+		byte[] results = new byte[column.getDictionarySize()];
+		return row -> {
+			int code = column.getCode(row);
+			if (code < 0 || code >= results.length) return biPredicate.test(column.decode(code), query);
+			if (results[code] == 0) results[code] = (byte) (biPredicate.test(column.decode(code), query) ? 1 : 2);
+			return results[code] == 1;
+		};
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public Predicate<Integer> predicateFor(String input) {
+		int index = getSelectedPredicateIndex();
+		if (index < 0) return super.predicateFor(input);
+		return columnPredicate(predicates.get(index).predicate(), getValue(input));
+	}
+
+	@Override
+	public Predicate<Integer> predicateFor(String input, BiPredicate<String, String> biPredicate) {
+		return columnPredicate(biPredicate, getValue(input));
+	}
+
+	/**
+	 * @return the column on which this filter operates
+	 */
+	public StringColumn getColumn() {
+		return column;
+	}
+}
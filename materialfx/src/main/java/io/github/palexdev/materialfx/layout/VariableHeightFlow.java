@@ -0,0 +1,540 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.layout;
+
+import io.github.palexdev.materialfx.collections.HeightIndex;
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.flow.simple.SimpleVirtualFlow;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.event.EventDispatcher;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A vertical {@link SimpleVirtualFlow} whose cells can have different heights, for example cells
+ * with wrapped multi-line text.
+ * <p>
+ * SimpleVirtualFlow lays out the cells at a fixed pitch, the height of the first cell. This flow instead
+ * keeps the height of every item in a {@link HeightIndex}: cells are measured with their pref height for
+ * the flow's width when they are laid out, while the items never shown count with an estimated height,
+ * see {@link #estimatedCellHeightProperty()}. Finding the first visible item from the vertical position
+ * and the position of an item both cost O(log n), so a scroll costs O(visible cells) regardless
+ * of the number of items.
+ * <p>
+ * When the measured heights differ from the estimated ones, the position is corrected so that the
+ * items which were visible before the layout don't move.
+ * <p>
+ * The properties, the scroll bars and the {@link #features()} are the ones of SimpleVirtualFlow, so this
+ * can replace it in the controls, but the orientation is always vertical.
+ */
+public class VariableHeightFlow<T, C extends Cell<T>> extends SimpleVirtualFlow<T, C> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final String STYLE_CLASS = "virtual-flow";
+	private final DoubleProperty estimatedCellHeight = new SimpleDoubleProperty(-1);
+
+	private final HeightIndex heights = new HeightIndex(32);
+	private final Viewport viewport = new Viewport();
+	private final Rectangle clip = new Rectangle();
+	private final ListChangeListener<T> itemsChanged = this::itemsChanged;
+
+	private Map<Integer, C> cells = new LinkedHashMap<>();
+	private final Map<C, T> cellsItems = new IdentityHashMap<>();
+	private final Deque<C> pool = new ArrayDeque<>();
+	private boolean cellsInvalid = false;
+	private boolean itemsUpdated = false;
+	private int anchorIndex = -1;
+	private double contentWidth = 0;
+	private boolean layingOut = false;
+
+	private static final int MAX_PASSES = 4;
+	private static final int MIN_POOL_SIZE = 16;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public VariableHeightFlow(ObservableList<T> items, Function<T, C> cellFactory) {
+		setItems(items);
+		setCellFactory(cellFactory);
+		initialize();
+	}
+
+	public VariableHeightFlow(ObjectProperty<ObservableList<T>> items, Function<T, C> cellFactory) {
+		itemsProperty().bind(items);
+		setCellFactory(cellFactory);
+		initialize();
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the vertical position at which the item at the given index starts, the index can be
+	 * equal to the number of items to get the total height
+	 */
+	public double offsetOf(int index) {
+		return heights.offsetOf(index);
+	}
+
+	/**
+	 * @return the index of the item at the given vertical position, or -1 if there are no items
+	 */
+	public int indexAt(double offset) {
+		return heights.indexAt(offset);
+	}
+
+	/**
+	 * @return the height of the item at the given index, measured if the item has been
+	 * shown since its last change, estimated otherwise
+	 */
+	public double getHeight(int index) {
+		return heights.getHeight(index);
+	}
+
+	/**
+	 * Handles the changes of the items list by updating the {@link HeightIndex}.
+	 * <p>
+	 * Replaced and updated items become unmeasured, added items count with the estimated height
+	 * until they are shown. The first visible item is followed to its new index, so that the next
+	 * layout can keep it still if the estimated height changes.
+	 */
+	protected void itemsChanged(ListChangeListener.Change<? extends T> change) {
+		while (change.next()) {
+			int from = change.getFrom();
+			if (change.wasPermutated() || change.wasUpdated()) {
+				heights.invalidate(from, change.getTo());
+				itemsUpdated |= change.wasUpdated();
+				if (change.wasPermutated() && anchorIndex >= from && anchorIndex < change.getTo()) {
+					anchorIndex = change.getPermutation(anchorIndex);
+				}
+				continue;
+			}
+
+			int removed = change.getRemovedSize();
+			int added = change.getAddedSize();
+			int common = Math.min(removed, added);
+			heights.invalidate(from, from + common);
+			if (removed > common) heights.remove(from + common, removed - common);
+			if (added > common) heights.insert(from + common, added - common);
+
+			if (anchorIndex >= from + removed) {
+				anchorIndex += added - removed;
+			} else if (anchorIndex >= from) {
+				anchorIndex = -1;
+			}
+		}
+		cellsInvalid = true;
+		requestLayout();
+	}
+
+	/**
+	 * Lays out the cells from the vertical position to the bottom of the viewport.
+	 * <p>
+	 * The cells are measured while being laid out, if the measured heights move the items that were
+	 * visible, or the position is out of bounds, the layout is repeated from the corrected position.
+	 */
+	protected void layoutCells(double viewportWidth, double viewportHeight) {
+		List<T> items = getItems();
+		int size = items != null ? items.size() : 0;
+		if (size == 0 || viewportHeight <= 0 || getCellFactory() == null) {
+			cells.values().forEach(this::releaseCell);
+			cells = new LinkedHashMap<>();
+			anchorIndex = -1;
+			return;
+		}
+
+		// After a change of the items the cells are matched by item, so that the ones still
+		// showing the same item are not updated
+		Map<Integer, C> oldCells = cells;
+		Map<T, C> staleCells = new IdentityHashMap<>();
+		if (cellsInvalid) {
+			for (C cell : oldCells.values()) {
+				C previous = staleCells.put(cellsItems.get(cell), cell);
+				if (previous != null) releaseCell(previous);
+			}
+			oldCells = new HashMap<>();
+		}
+
+		Map<Integer, C> newCells = new LinkedHashMap<>();
+		int anchor = anchorIndex < size ? anchorIndex : -1;
+		double anchorOffset = anchor != -1 ? heights.offsetOf(anchor) : 0;
+		updateEstimate();
+
+		double position = getVerticalPosition();
+		boolean toEnd = position >= heights.getTotalHeight() - viewportHeight;
+		for (int pass = 0; pass < MAX_PASSES; pass++) {
+			double cellWidth = isFitToWidth() ? viewportWidth : Math.max(viewportWidth, contentWidth);
+			position = clamp(position, heights.getTotalHeight() - viewportHeight);
+			int first = heights.indexAt(position);
+			int last = heights.indexAt(position + viewportHeight);
+
+			oldCells.putAll(newCells);
+			newCells.clear();
+			Iterator<Map.Entry<Integer, C>> it = oldCells.entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<Integer, C> entry = it.next();
+				if (entry.getKey() < first || entry.getKey() > last) {
+					releaseCell(entry.getValue());
+					it.remove();
+				}
+			}
+
+			double x = -clamp(getHorizontalPosition(), cellWidth - viewportWidth);
+			double y = snapPositionY(heights.offsetOf(first) - position);
+			double maxWidth = 0;
+			for (int i = first; i < size && y < viewportHeight; i++) {
+				T item = items.get(i);
+				C cell = obtainCell(oldCells, staleCells, i, item);
+				Node node = cell.getNode();
+				double height = snapSizeY(node.prefHeight(cellWidth));
+				if (!isFitToWidth()) maxWidth = Math.max(maxWidth, node.prefWidth(height));
+				heights.setHeight(i, height);
+
+				cell.beforeLayout();
+				node.resizeRelocate(x, y, cellWidth, height);
+				cell.afterLayout();
+				newCells.put(i, cell);
+				y += height;
+			}
+			updateEstimate();
+
+			double corrected = position;
+			if (toEnd) {
+				corrected = heights.getTotalHeight() - viewportHeight;
+			} else if (anchor != -1 && newCells.containsKey(anchor)) {
+				double offset = heights.offsetOf(anchor);
+				corrected += offset - anchorOffset;
+				anchorOffset = offset;
+			}
+			corrected = clamp(corrected, heights.getTotalHeight() - viewportHeight);
+
+			boolean widthChanged = !isFitToWidth() && maxWidth != contentWidth;
+			contentWidth = maxWidth;
+			if (corrected == position && !widthChanged) break;
+			position = corrected;
+		}
+
+		oldCells.values().forEach(this::releaseCell);
+		staleCells.values().forEach(this::releaseCell);
+		cells = newCells;
+		cellsInvalid = false;
+		itemsUpdated = false;
+		anchorIndex = newCells.isEmpty() ? -1 : newCells.keySet().iterator().next();
+		if (getVerticalPosition() != position) setVerticalPosition(position);
+	}
+
+	/**
+	 * Sizes and positions the scroll bars over the cells and updates their range
+	 * according to the total height of the items.
+	 */
+	protected void layoutBars(double viewportWidth, double viewportHeight) {
+		ScrollBar hBar = getHBar();
+		ScrollBar vBar = getVBar();
+		double totalHeight = heights.getTotalHeight();
+		double totalWidth = isFitToWidth() ? viewportWidth : contentWidth;
+		boolean vVisible = totalHeight > viewportHeight;
+		boolean hVisible = totalWidth > viewportWidth;
+
+		double vMax = Math.max(0, totalHeight - viewportHeight);
+		vBar.setMax(vMax);
+		vBar.setVisibleAmount(vVisible ? vMax * viewportHeight / totalHeight : 0);
+		vBar.setVisible(vVisible);
+		double hMax = Math.max(0, totalWidth - viewportWidth);
+		hBar.setMax(hMax);
+		hBar.setVisibleAmount(hVisible ? hMax * viewportWidth / totalWidth : 0);
+		hBar.setVisible(hVisible);
+
+		double vBarWidth = vBar.prefWidth(-1);
+		double hBarHeight = hBar.prefHeight(-1);
+		vBar.resizeRelocate(viewportWidth - vBarWidth, 0, vBarWidth, viewportHeight - (hVisible ? hBarHeight : 0));
+		hBar.resizeRelocate(0, viewportHeight - hBarHeight, viewportWidth - (vVisible ? vBarWidth : 0), hBarHeight);
+	}
+
+	/**
+	 * Gets a cell for the given index, reusing in order: the cell already at that index,
+	 * a cell which was showing the same item before a change of the items, a cell of the pool.
+	 * If none is available a new one is built with the cell factory.
+	 */
+	private C obtainCell(Map<Integer, C> oldCells, Map<T, C> staleCells, int index, T item) {
+		C cell = oldCells.remove(index);
+		if (cell == null) {
+			cell = staleCells.remove(item);
+			if (cell != null) {
+				cell.updateIndex(index);
+				if (itemsUpdated) cell.updateItem(item);
+				return cell;
+			}
+		}
+
+		if (cell != null) {
+			if (itemsUpdated || cellsItems.get(cell) != item) {
+				cell.updateItem(item);
+				cellsItems.put(cell, item);
+			}
+			return cell;
+		}
+
+		cell = pool.poll();
+		if (cell != null) {
+			cell.getNode().setVisible(true);
+			cell.updateIndex(index);
+			cell.updateItem(item);
+		} else {
+			cell = getCellFactory().apply(item);
+			viewport.getChildren().add(cell.getNode());
+			cell.updateIndex(index);
+			cell.getNode().applyCss();
+		}
+		cellsItems.put(cell, item);
+		return cell;
+	}
+
+	/**
+	 * Hides the given cell and puts it in the pool, or disposes it if the pool
+	 * already has as many cells as the visible ones.
+	 */
+	private void releaseCell(C cell) {
+		cellsItems.remove(cell);
+		if (pool.size() < Math.max(MIN_POOL_SIZE, cells.size())) {
+			cell.getNode().setVisible(false);
+			pool.add(cell);
+		} else {
+			cell.dispose();
+			viewport.getChildren().remove(cell.getNode());
+		}
+	}
+
+	/**
+	 * Disposes all the cells, used when the cell factory changes.
+	 */
+	private void clearCells() {
+		cells.values().forEach(Cell::dispose);
+		pool.forEach(Cell::dispose);
+		cells = new LinkedHashMap<>();
+		cellsItems.clear();
+		pool.clear();
+		viewport.getChildren().clear();
+		anchorIndex = -1;
+	}
+
+	private void updateEstimate() {
+		double estimated = getEstimatedCellHeight();
+		heights.setEstimatedHeight(estimated > 0 ? estimated : heights.getAverageHeight());
+	}
+
+	private double clamp(double value, double max) {
+		return Math.max(0, Math.min(value, max));
+	}
+
+	//================================================================================
+	// Override Methods
+	//================================================================================
+	@Override
+	protected void initialize() {
+		getStyleClass().add(STYLE_CLASS);
+		viewport.setClip(clip);
+
+		ScrollBar hBar = getHBar();
+		ScrollBar vBar = getVBar();
+		hBar.setManaged(false);
+		vBar.setManaged(false);
+		hBar.setOrientation(Orientation.HORIZONTAL);
+		vBar.setOrientation(Orientation.VERTICAL);
+		hBar.setUnitIncrement(15);
+		vBar.setUnitIncrement(15);
+		horizontalPositionProperty().bindBidirectional(hBar.valueProperty());
+		verticalPositionProperty().bindBidirectional(vBar.valueProperty());
+
+		EventDispatcher dispatcher = getEventDispatcher();
+		setEventDispatcher((event, tail) -> {
+			if (event instanceof ScrollEvent) {
+				tail = tail.prepend(vBar.getEventDispatcher());
+			}
+			return dispatcher.dispatchEvent(event, tail);
+		});
+		hBar.addEventFilter(ScrollEvent.SCROLL, ScrollEvent::consume);
+
+		InvalidationListener positionChanged = invalidated -> {
+			if (!layingOut) requestLayout();
+		};
+		verticalPositionProperty().addListener(positionChanged);
+		horizontalPositionProperty().addListener(positionChanged);
+		fitToWidthProperty().addListener(invalidated -> requestLayout());
+		estimatedCellHeight.addListener(invalidated -> requestLayout());
+		itemsProperty().addListener((observable, oldValue, newValue) -> {
+			if (oldValue != null) oldValue.removeListener(itemsChanged);
+			if (newValue != null) newValue.addListener(itemsChanged);
+			heights.reset(newValue != null ? newValue.size() : 0);
+			cellsInvalid = true;
+			anchorIndex = -1;
+			requestLayout();
+		});
+		cellFactoryProperty().addListener(invalidated -> {
+			clearCells();
+			requestLayout();
+		});
+
+		if (getItems() != null) {
+			getItems().addListener(itemsChanged);
+			heights.reset(getItems().size());
+		}
+		getChildren().setAll(viewport, hBar, vBar);
+	}
+
+	@Override
+	protected void layoutChildren() {
+		double width = getWidth();
+		double height = getHeight();
+		viewport.resizeRelocate(0, 0, width, height);
+		clip.setWidth(width);
+		clip.setHeight(height);
+
+		layingOut = true;
+		try {
+			layoutCells(width, height);
+		} finally {
+			layingOut = false;
+		}
+		layoutBars(width, height);
+	}
+
+	@Override
+	public C getCell(int index) {
+		return cells.get(index);
+	}
+
+	@Override
+	public Map<Integer, C> getCells() {
+		return Collections.unmodifiableMap(cells);
+	}
+
+	@Override
+	public void scrollBy(double pixels) {
+		setVerticalPosition(Math.max(0, getVerticalPosition() + pixels));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The item is kept at the top even if the measured heights of the items before it differ from the estimated ones.
+	 */
+	@Override
+	public void scrollTo(int index) {
+		List<T> items = getItems();
+		if (items == null || items.isEmpty()) return;
+		anchorIndex = Math.max(0, Math.min(index, items.size() - 1));
+		setVerticalPosition(heights.offsetOf(anchorIndex));
+	}
+
+	@Override
+	public void scrollToFirst() {
+		setVerticalPosition(0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Since the heights of the last items may be estimated, the position is set beyond the end
+	 * and the layout keeps the flow at the end once the items have been measured.
+	 */
+	@Override
+	public void scrollToLast() {
+		setVerticalPosition(heights.getTotalHeight());
+	}
+
+	@Override
+	public void scrollToPixel(double pixel) {
+		setVerticalPosition(Math.max(0, pixel));
+	}
+
+	/**
+	 * @return the estimated height of the cells, or 0 if no cell has been built yet
+	 */
+	@Override
+	public double getCellHeight() {
+		return cells.isEmpty() ? 0 : heights.getEstimatedHeight();
+	}
+
+	@Override
+	public double getCellWidth() {
+		return isFitToWidth() ? getWidth() : Math.max(getWidth(), contentWidth);
+	}
+
+	@Override
+	protected double computePrefWidth(double height) {
+		return 100;
+	}
+
+	@Override
+	protected double computePrefHeight(double width) {
+		return 100;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public double getEstimatedCellHeight() {
+		return estimatedCellHeight.get();
+	}
+
+	/**
+	 * Specifies the height used for the items which have not been measured yet.
+	 * <p>
+	 * By default it's -1, which means that the average height of the measured items is used.
+	 */
+	public DoubleProperty estimatedCellHeightProperty() {
+		return estimatedCellHeight;
+	}
+
+	public void setEstimatedCellHeight(double estimatedCellHeight) {
+		this.estimatedCellHeight.set(estimatedCellHeight);
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The region containing the cells, which are positioned by the flow.
+	 */
+	private static class Viewport extends Region {
+		@Override
+		public ObservableList<Node> getChildren() {
+			return super.getChildren();
+		}
+
+		@Override
+		protected void layoutChildren() {
+		}
+	}
+}
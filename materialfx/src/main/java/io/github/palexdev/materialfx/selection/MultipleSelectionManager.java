@@ -20,18 +20,29 @@
 
 import io.github.palexdev.materialfx.beans.NumberRange;
 import io.github.palexdev.materialfx.selection.base.AbstractMultipleSelectionModel;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakListener;
 import javafx.beans.property.MapProperty;
 import javafx.beans.property.SimpleMapProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 // TODO introduce bindings eventually
 
 /**
  * Helper class that is capable of managing/update MultipleSelectionModels.
+ * <p></p>
+ * Besides the selection {@link MapProperty}, the manager also publishes the selection changes
+ * as deltas, see {@link SelectionDelta}. Every operation produces at most one delta, no matter
+ * if the map was modified in place or replaced, and only the indexes that effectively changed
+ * their selection state are part of it. Cells can subscribe to the state of a single index with
+ * {@link #addIndexListener(int, InvalidationListener)}, so that a click doesn't invalidate
+ * every visible cell.
  */
 @SuppressWarnings("unchecked")
 public class MultipleSelectionManager<T> {
@@ -42,11 +53,18 @@
 	private final MapProperty<Integer, T> selection = new SimpleMapProperty<>(getMap());
 	private boolean allowsMultipleSelection = true;
 
+	private final Map<Integer, List<InvalidationListener>> indexListeners = new HashMap<>();
+	private final List<Consumer<SelectionDelta>> deltaListeners = new ArrayList<>();
+	private final Set<Integer> pendingAdded = new LinkedHashSet<>();
+	private final Set<Integer> pendingRemoved = new LinkedHashSet<>();
+	private int changeDepth = 0;
+
 	//================================================================================
 	// Constructors
 	//================================================================================
 	public MultipleSelectionManager(AbstractMultipleSelectionModel<T> selectionModel) {
 		this.selectionModel = selectionModel;
+		selection.addListener((MapChangeListener<? super Integer, ? super T>) this::onSelectionChanged);
 	}
 
 	//================================================================================
@@ -57,14 +75,14 @@ public MultipleSelectionManager(AbstractMultipleSelectionModel<T> selectionModel
 	 * Clears the selection by setting it to an empty map.
 	 */
 	public void clearSelection() {
-		selection.set(getMap());
+		change(() -> selection.set(getMap()));
 	}
 
 	/**
 	 * Removes the given index from the selection map.
 	 */
 	public void deselectIndex(int index) {
-		selection.remove(index);
+		change(() -> selection.remove(index));
 	}
 
 	/**
@@ -72,10 +90,12 @@ public void deselectIndex(int index) {
 	 * removes it from the selection map.
 	 */
 	public void deselectItem(T item) {
-		int index = selectionModel.getItems().indexOf(item);
-		if (index >= 0) {
-			selection.remove(index);
-		}
+		change(() -> {
+			int index = selectionModel.getItems().indexOf(item);
+			if (index >= 0) {
+				selection.remove(index);
+			}
+		});
 	}
 
 	/**
@@ -84,11 +104,13 @@ public void deselectItem(T item) {
 	 * selection with this new map.
 	 */
 	public void deselectIndexes(int... indexes) {
-		ObservableMap<Integer, T> tmp = getMap(selection);
-		for (int index : indexes) {
-			tmp.remove(index);
-		}
-		selection.set(tmp);
+		change(() -> {
+			ObservableMap<Integer, T> tmp = getMap(selection);
+			for (int index : indexes) {
+				tmp.remove(index);
+			}
+			selection.set(tmp);
+		});
 	}
 
 	/**
@@ -97,14 +119,16 @@ public void deselectIndexes(int... indexes) {
 	 * selection with this new map.
 	 */
 	public void deselectItems(T... items) {
-		Map<Integer, T> tmp = Arrays.stream(items)
-				.filter(item -> selectionModel.getItems().contains(item))
-				.collect(Collectors.toMap(
-						item -> selectionModel.getItems().indexOf(item),
-						item -> item
-				));
-		ObservableMap<Integer, T> newSelection = getMap(tmp);
-		selection.set(newSelection);
+		change(() -> {
+			Map<Integer, T> tmp = Arrays.stream(items)
+					.filter(item -> selectionModel.getItems().contains(item))
+					.collect(Collectors.toMap(
+							item -> selectionModel.getItems().indexOf(item),
+							item -> item
+					));
+			ObservableMap<Integer, T> newSelection = getMap(tmp);
+			selection.set(newSelection);
+		});
 	}
 
 	/**
@@ -112,14 +136,16 @@ public void deselectItems(T... items) {
 	 * otherwise creates a new tmp map containing only the given index-item entry and replaces the selection.
 	 */
 	public void updateSelection(int index) {
-		T item = selectionModel.getItems().get(index);
-		if (allowsMultipleSelection) {
-			selection.put(index, item);
-		} else {
-			ObservableMap<Integer, T> map = getMap();
-			map.put(index, item);
-			selection.set(map);
-		}
+		change(() -> {
+			T item = selectionModel.getItems().get(index);
+			if (allowsMultipleSelection) {
+				selection.put(index, item);
+			} else {
+				ObservableMap<Integer, T> map = getMap();
+				map.put(index, item);
+				selection.set(map);
+			}
+		});
 	}
 
 	/**
@@ -127,14 +153,16 @@ public void updateSelection(int index) {
 	 * otherwise creates a new tmp map containing only the given index-item entry and replaces the selection.
 	 */
 	public void updateSelection(T item) {
-		int index = selectionModel.getItems().indexOf(item);
-		if (allowsMultipleSelection) {
-			selection.put(index, item);
-		} else {
-			ObservableMap<Integer, T> map = getMap();
-			map.put(index, item);
-			selection.set(map);
-		}
+		change(() -> {
+			int index = selectionModel.getItems().indexOf(item);
+			if (allowsMultipleSelection) {
+				selection.put(index, item);
+			} else {
+				ObservableMap<Integer, T> map = getMap();
+				map.put(index, item);
+				selection.set(map);
+			}
+		});
 	}
 
 	/**
@@ -142,24 +170,26 @@ public void updateSelection(T item) {
 	 * (and the retrieved items), otherwise replaces the selection with the first index given in the list.
 	 */
 	public void updateSelectionByIndexes(List<Integer> indexes) {
-		if (indexes.isEmpty()) return;
-
-		if (allowsMultipleSelection) {
-			Set<Integer> indexesSet = new LinkedHashSet<>(indexes);
-			Map<Integer, T> newSelection = indexesSet.stream().collect(Collectors.toMap(
-					i -> i,
-					i -> selectionModel.getItems().get(i),
-					(t, t2) -> t2,
-					LinkedHashMap::new
-			));
-			selection.putAll(newSelection);
-		} else {
-			int index = indexes.get(0);
-			T item = selectionModel.getItems().get(index);
-			ObservableMap<Integer, T> map = getMap();
-			map.put(index, item);
-			selection.set(map);
-		}
+		change(() -> {
+			if (indexes.isEmpty()) return;
+
+			if (allowsMultipleSelection) {
+				Set<Integer> indexesSet = new LinkedHashSet<>(indexes);
+				Map<Integer, T> newSelection = indexesSet.stream().collect(Collectors.toMap(
+						i -> i,
+						i -> selectionModel.getItems().get(i),
+						(t, t2) -> t2,
+						LinkedHashMap::new
+				));
+				selection.putAll(newSelection);
+			} else {
+				int index = indexes.get(0);
+				T item = selectionModel.getItems().get(index);
+				ObservableMap<Integer, T> map = getMap();
+				map.put(index, item);
+				selection.set(map);
+			}
+		});
 	}
 
 	/**
@@ -167,25 +197,27 @@ public void updateSelectionByIndexes(List<Integer> indexes) {
 	 * (and the retrieved indexes), otherwise replaces the selection with the first item given in the list.
 	 */
 	public void updateSelectionByItems(List<T> items) {
-		if (items.isEmpty()) return;
-
-		if (allowsMultipleSelection) {
-			Set<Integer> indexesSet = items.stream()
-					.mapToInt(item -> selectionModel.getItems().indexOf(item))
-					.boxed()
-					.collect(Collectors.toSet());
-			Map<Integer, T> newSelection = indexesSet.stream().collect(Collectors.toMap(
-					i -> i,
-					items::get
-			));
-			selection.putAll(newSelection);
-		} else {
-			T item = items.get(0);
-			int index = selectionModel.getItems().indexOf(item);
-			ObservableMap<Integer, T> map = getMap();
-			map.put(index, item);
-			selection.set(map);
-		}
+		change(() -> {
+			if (items.isEmpty()) return;
+
+			if (allowsMultipleSelection) {
+				Set<Integer> indexesSet = items.stream()
+						.mapToInt(item -> selectionModel.getItems().indexOf(item))
+						.boxed()
+						.collect(Collectors.toSet());
+				Map<Integer, T> newSelection = indexesSet.stream().collect(Collectors.toMap(
+						i -> i,
+						items::get
+				));
+				selection.putAll(newSelection);
+			} else {
+				T item = items.get(0);
+				int index = selectionModel.getItems().indexOf(item);
+				ObservableMap<Integer, T> map = getMap();
+				map.put(index, item);
+				selection.set(map);
+			}
+		});
 	}
 
 	/**
@@ -197,22 +229,24 @@ public void updateSelectionByItems(List<T> items) {
 	 * <p> 4) The given index is greater than the minimum index: the new selection will go from [min to index]
 	 */
 	public void expandSelection(int index) {
-		if (selection.isEmpty()) {
-			replaceSelection(NumberRange.expandRangeToArray(0, index));
-			return;
-		}
-
-		int min = selection.keySet().stream().min(Integer::compareTo).orElse(-1);
-		if (index == min) {
-			replaceSelection(index);
-			return;
-		}
-
-		if (index < min) {
-			replaceSelection(NumberRange.expandRangeToArray(index, min));
-		} else {
-			replaceSelection(NumberRange.expandRangeToArray(min, index));
-		}
+		change(() -> {
+			if (selection.isEmpty()) {
+				replaceSelection(NumberRange.expandRangeToArray(0, index));
+				return;
+			}
+
+			int min = selection.keySet().stream().min(Integer::compareTo).orElse(-1);
+			if (index == min) {
+				replaceSelection(index);
+				return;
+			}
+
+			if (index < min) {
+				replaceSelection(NumberRange.expandRangeToArray(index, min));
+			} else {
+				replaceSelection(NumberRange.expandRangeToArray(min, index));
+			}
+		});
 	}
 
 	/**
@@ -220,19 +254,21 @@ public void expandSelection(int index) {
 	 * (and the retrieved items), otherwise replaces the selection with the first given index.
 	 */
 	public void replaceSelection(Integer... indexes) {
-		ObservableMap<Integer, T> newSelection = getMap();
-		if (allowsMultipleSelection) {
-			newSelection.putAll(
-					Arrays.stream(indexes).collect(Collectors.toMap(
-							i -> i,
-							i -> selectionModel.getItems().get(i)
-					))
-			);
-		} else {
-			int index = indexes[0];
-			newSelection.put(index, selectionModel.getItems().get(index));
-		}
-		selection.set(newSelection);
+		change(() -> {
+			ObservableMap<Integer, T> newSelection = getMap();
+			if (allowsMultipleSelection) {
+				newSelection.putAll(
+						Arrays.stream(indexes).collect(Collectors.toMap(
+								i -> i,
+								i -> selectionModel.getItems().get(i)
+						))
+				);
+			} else {
+				int index = indexes[0];
+				newSelection.put(index, selectionModel.getItems().get(index));
+			}
+			selection.set(newSelection);
+		});
 	}
 
 	/**
@@ -240,19 +276,122 @@ public void replaceSelection(Integer... indexes) {
 	 * (and the retrieved indexes), otherwise replaces the selection with the first given item.
 	 */
 	public void replaceSelection(T... items) {
-		ObservableMap<Integer, T> newSelection = getMap();
-		if (allowsMultipleSelection) {
-			newSelection.putAll(
-					Arrays.stream(items).collect(Collectors.toMap(
-							item -> selectionModel.getItems().indexOf(item),
-							item -> item
-					))
-			);
+		change(() -> {
+			ObservableMap<Integer, T> newSelection = getMap();
+			if (allowsMultipleSelection) {
+				newSelection.putAll(
+						Arrays.stream(items).collect(Collectors.toMap(
+								item -> selectionModel.getItems().indexOf(item),
+								item -> item
+						))
+				);
+			} else {
+				T item = items[0];
+				newSelection.put(selectionModel.getItems().indexOf(item), item);
+			}
+			selection.set(newSelection);
+		});
+	}
+
+	/**
+	 * Adds a listener that is notified only when the selection state of the given index changes.
+	 * <p>
+	 * The listener is invoked with the {@link #selectionProperty()} as argument. {@link WeakListener}s
+	 * are supported, once their referent is collected they are dropped.
+	 */
+	public void addIndexListener(int index, InvalidationListener listener) {
+		List<InvalidationListener> listeners = indexListeners.computeIfAbsent(index, i -> new ArrayList<>());
+		listeners.removeIf(l -> l instanceof WeakListener && ((WeakListener) l).wasGarbageCollected());
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes the given listener from the listeners of the given index.
+	 */
+	public void removeIndexListener(int index, InvalidationListener listener) {
+		List<InvalidationListener> listeners = indexListeners.get(index);
+		if (listeners == null) return;
+		listeners.remove(listener);
+		if (listeners.isEmpty()) indexListeners.remove(index);
+	}
+
+	/**
+	 * Adds a listener that receives a {@link SelectionDelta} after every operation that changed the selection.
+	 */
+	public void addSelectionDeltaListener(Consumer<SelectionDelta> listener) {
+		deltaListeners.add(listener);
+	}
+
+	/**
+	 * Removes the given delta listener.
+	 */
+	public void removeSelectionDeltaListener(Consumer<SelectionDelta> listener) {
+		deltaListeners.remove(listener);
+	}
+
+	/**
+	 * Executes the given action as a single selection change, the {@link SelectionDelta}
+	 * is published once the action (and any nested change) completes.
+	 */
+	protected void change(Runnable action) {
+		changeDepth++;
+		try {
+			action.run();
+		} finally {
+			changeDepth--;
+			if (changeDepth == 0) publishDelta();
+		}
+	}
+
+	/**
+	 * Collects the indexes whose selection state changed. Entries whose value is just
+	 * replaced are ignored, an index which is removed and added back cancels out.
+	 * <p>
+	 * Changes made outside {@link #change(Runnable)}, for example by modifying the
+	 * selection map directly, are published immediately.
+	 */
+	private void onSelectionChanged(MapChangeListener.Change<? extends Integer, ? extends T> change) {
+		if (change.wasAdded() == change.wasRemoved()) return;
+
+		Integer index = change.getKey();
+		if (change.wasAdded()) {
+			if (!pendingRemoved.remove(index)) pendingAdded.add(index);
 		} else {
-			T item = items[0];
-			newSelection.put(selectionModel.getItems().indexOf(item), item);
+			if (!pendingAdded.remove(index)) pendingRemoved.add(index);
+		}
+		if (changeDepth == 0) publishDelta();
+	}
+
+	/**
+	 * Notifies the listeners of every changed index and then the delta listeners.
+	 */
+	private void publishDelta() {
+		if (pendingAdded.isEmpty() && pendingRemoved.isEmpty()) return;
+
+		SelectionDelta delta = new SelectionDelta(pendingAdded, pendingRemoved);
+		pendingAdded.clear();
+		pendingRemoved.clear();
+
+		notifyIndex(delta.getAdded());
+		notifyIndex(delta.getRemoved());
+		for (Consumer<SelectionDelta> listener : List.copyOf(deltaListeners)) {
+			listener.accept(delta);
+		}
+	}
+
+	private void notifyIndex(Set<Integer> indexes) {
+		for (Integer index : indexes) {
+			List<InvalidationListener> listeners = indexListeners.get(index);
+			if (listeners == null) continue;
+
+			for (InvalidationListener listener : List.copyOf(listeners)) {
+				if (listener instanceof WeakListener && ((WeakListener) listener).wasGarbageCollected()) {
+					removeIndexListener(index, listener);
+				} else {
+					listener.invalidated(selection);
+				}
+			}
 		}
-		selection.set(newSelection);
 	}
 
 	/**
@@ -296,7 +435,7 @@ public MapProperty<Integer, T> selectionProperty() {
 	 * Replaces the selection with the given {@link ObservableMap}.
 	 */
 	public void setSelection(ObservableMap<Integer, T> selection) {
-		this.selection.set(selection);
+		change(() -> this.selection.set(selection));
 	}
 
 	/**
@@ -20,12 +20,14 @@
 
 import io.github.palexdev.materialfx.selection.base.AbstractMultipleSelectionModel;
 import io.github.palexdev.materialfx.selection.base.IMultipleSelectionModel;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.MapProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Implementation of {@link AbstractMultipleSelectionModel} to implement the API
@@ -171,6 +173,38 @@ public void setSelection(ObservableMap<Integer, T> newSelection) {
 		selectionManager.setSelection(newSelection);
 	}
 
+	/**
+	 * Delegate method for {@link MultipleSelectionManager#addIndexListener(int, InvalidationListener)}.
+	 */
+	@Override
+	public void addIndexListener(int index, InvalidationListener listener) {
+		selectionManager.addIndexListener(index, listener);
+	}
+
+	/**
+	 * Delegate method for {@link MultipleSelectionManager#removeIndexListener(int, InvalidationListener)}.
+	 */
+	@Override
+	public void removeIndexListener(int index, InvalidationListener listener) {
+		selectionManager.removeIndexListener(index, listener);
+	}
+
+	/**
+	 * Delegate method for {@link MultipleSelectionManager#addSelectionDeltaListener(Consumer)}.
+	 */
+	@Override
+	public void addSelectionDeltaListener(Consumer<SelectionDelta> listener) {
+		selectionManager.addSelectionDeltaListener(listener);
+	}
+
+	/**
+	 * Delegate method for {@link MultipleSelectionManager#removeSelectionDeltaListener(Consumer)}.
+	 */
+	@Override
+	public void removeSelectionDeltaListener(Consumer<SelectionDelta> listener) {
+		selectionManager.removeSelectionDeltaListener(listener);
+	}
+
 	/**
 	 * Delegate method for {@link MultipleSelectionManager#getSelectedValues()}.
 	 */
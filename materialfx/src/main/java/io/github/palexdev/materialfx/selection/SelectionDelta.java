@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.selection;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Immutable bean that describes how a selection changed after a single operation,
+ * which indexes entered the selection and which left it.
+ * <p>
+ * Indexes whose item was just replaced (still selected before and after) are not part
+ * of the delta since their selection state did not change.
+ *
+ * @see MultipleSelectionManager#addSelectionDeltaListener(java.util.function.Consumer)
+ */
+public class SelectionDelta {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Set<Integer> added;
+	private final Set<Integer> removed;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public SelectionDelta(Set<Integer> added, Set<Integer> removed) {
+		this.added = Collections.unmodifiableSet(new LinkedHashSet<>(added));
+		this.removed = Collections.unmodifiableSet(new LinkedHashSet<>(removed));
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return true if the given index was either selected or deselected
+	 */
+	public boolean contains(int index) {
+		return added.contains(index) || removed.contains(index);
+	}
+
+	/**
+	 * @return true if no index changed its selection state
+	 */
+	public boolean isEmpty() {
+		return added.isEmpty() && removed.isEmpty();
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return an unmodifiable set of the indexes that have been selected
+	 */
+	public Set<Integer> getAdded() {
+		return added;
+	}
+
+	/**
+	 * @return an unmodifiable set of the indexes that have been deselected
+	 */
+	public Set<Integer> getRemoved() {
+		return removed;
+	}
+
+	@Override
+	public String toString() {
+		return "SelectionDelta{added=" + added + ", removed=" + removed + "}";
+	}
+}
@@ -18,12 +18,15 @@
 
 package io.github.palexdev.materialfx.selection.base;
 
+import io.github.palexdev.materialfx.selection.SelectionDelta;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.MapProperty;
 import javafx.collections.ObservableMap;
 
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Public API that every MultipleSelectionModel must implement.
@@ -110,6 +113,39 @@
 	 */
 	void setSelection(ObservableMap<Integer, T> newSelection);
 
+	/**
+	 * Adds a listener that is notified only when the selection state of the given index changes.
+	 * <p>
+	 * By default the listener is added to the {@link #selectionProperty()}, so it's notified at every change
+	 * of the selection. Implementations can override this to notify only the affected indexes.
+	 */
+	default void addIndexListener(int index, InvalidationListener listener) {
+		selectionProperty().addListener(listener);
+	}
+
+	/**
+	 * Removes the given listener from the listeners of the given index.
+	 * <p>
+	 * By default the listener is removed from the {@link #selectionProperty()}, see {@link #addIndexListener(int, InvalidationListener)}.
+	 */
+	default void removeIndexListener(int index, InvalidationListener listener) {
+		selectionProperty().removeListener(listener);
+	}
+
+	/**
+	 * Adds a listener that receives a {@link SelectionDelta} every time the selection changes.
+	 * <p>
+	 * Optional, by default this does nothing, in such case the changes can be observed with the {@link #selectionProperty()}.
+	 */
+	default void addSelectionDeltaListener(Consumer<SelectionDelta> listener) {
+	}
+
+	/**
+	 * Removes the given delta listener.
+	 */
+	default void removeSelectionDeltaListener(Consumer<SelectionDelta> listener) {
+	}
+
 	/**
 	 * Returns an unmodifiable {@link List} containing all the selected values extracted from
 	 * {@link Map#values()}.
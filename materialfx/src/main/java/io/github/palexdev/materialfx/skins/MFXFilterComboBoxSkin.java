@@ -23,6 +23,7 @@
 import io.github.palexdev.materialfx.controls.MFXFilterComboBox;
 import io.github.palexdev.materialfx.controls.MFXTextField;
 import io.github.palexdev.materialfx.controls.cell.MFXFilterComboBoxCell;
+import io.github.palexdev.materialfx.enums.Refinement;
 import io.github.palexdev.materialfx.i18n.I18N;
 import io.github.palexdev.virtualizedfx.cell.Cell;
 import io.github.palexdev.virtualizedfx.flow.simple.SimpleVirtualFlow;
@@ -32,6 +33,7 @@
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.VBox;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -59,7 +61,7 @@ public MFXFilterComboBoxSkin(MFXFilterComboBox<T> comboBox, BoundTextField bound
 	private void addListeners() {
 		MFXFilterComboBox<T> comboBox = getComboBox();
 
-		comboBox.searchTextProperty().addListener((observable, oldValue, newValue) -> filter(newValue));
+		comboBox.searchTextProperty().addListener((observable, oldValue, newValue) -> filter(oldValue, newValue));
 		popup.showingProperty().addListener((observable, oldValue, newValue) -> {
 			if (!newValue && comboBox.isResetOnPopupHidden()) comboBox.setSearchText("");
 		});
@@ -83,6 +85,22 @@ protected void filter(String text) {
 		comboBox.getFilterList().setPredicate(filter);
 	}
 
+	/**
+	 * Same as {@link #filter(String)}, but also uses the {@link MFXFilterComboBox#refinementFunctionProperty()}
+	 * to tell the list whether the new predicate is narrower or wider than the previous one,
+	 * see {@link TransformableList#setPredicate(Predicate, Refinement)}.
+	 */
+	protected void filter(String oldText, String newText) {
+		MFXFilterComboBox<T> comboBox = getComboBox();
+		Function<String, Predicate<T>> filterFunction = comboBox.getFilterFunction();
+		if (filterFunction == null) return;
+
+		BiFunction<String, String, Refinement> refinementFunction = comboBox.getRefinementFunction();
+		Refinement refinement = refinementFunction != null ? refinementFunction.apply(oldText, newText) : Refinement.NONE;
+		Predicate<T> filter = filterFunction.apply(newText);
+		comboBox.getFilterList().setPredicate(filter, refinement);
+	}
+
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
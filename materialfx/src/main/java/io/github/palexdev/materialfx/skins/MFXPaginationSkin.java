@@ -107,7 +107,7 @@ private void addListeners() {
 			buildPages();
 			int current = pagination.getCurrentPage();
 			int max = pagination.getMaxPage();
-			if (max > current) pagination.setCurrentPage(max);
+			if (current > max) pagination.setCurrentPage(max);
 		});
 		pagination.indexesSupplierProperty().addListener(invalidated -> buildPages());
 
@@ -171,18 +171,20 @@ protected void buildBar() {
 	 * Responsible for building the pages or updating them if re-building them is not needed.
 	 * <p>
 	 * Also, if the pages list is not empty, and to improve performance, if more or less pages
-	 * are needed {@link #supplyPages(int)} is used.
+	 * are needed {@link #supplyPages(int)} is used. Only the pages for the indexes computed by
+	 * {@link MFXPagination#indexesSupplierProperty()} are built, not one per page.
 	 */
 	protected void buildPages() {
 		MFXPagination pagination = getSkinnable();
+		int toShow = pagination.getIndexesSupplier().get().size();
 		if (!pages.isEmpty()) {
-			if (pages.size() != pagination.getMaxPage()) supplyPages(pagination.getMaxPage() - pages.size());
+			if (pages.size() != toShow) supplyPages(toShow - pages.size());
 			updatePages();
 			updateBetweens();
 			return;
 		}
 
-		supplyPages(Math.min(pagination.getMaxPage(), pagination.getPagesToShow()));
+		supplyPages(toShow);
 		updatePages();
 		updateBetweens();
 	}
@@ -19,33 +19,41 @@
 package io.github.palexdev.materialfx.skins;
 
 import io.github.palexdev.materialfx.collections.TransformableList;
-import io.github.palexdev.materialfx.collections.TransformableListWrapper;
 import io.github.palexdev.materialfx.controls.*;
 import io.github.palexdev.materialfx.controls.MFXTableColumn.MFXTableColumnEvent;
 import io.github.palexdev.materialfx.dialogs.MFXDialogs;
 import io.github.palexdev.materialfx.dialogs.MFXStageDialog;
-import io.github.palexdev.materialfx.enums.SortState;
 import io.github.palexdev.materialfx.utils.NodeUtils;
+import io.github.palexdev.virtualizedfx.beans.NumberRange;
 import io.github.palexdev.virtualizedfx.flow.simple.SimpleVirtualFlow;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.SkinBase;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.shape.Rectangle;
 import javafx.stage.Modality;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This is the implementation of the {@code Skin} associated with every {@link MFXTableView}.
  * <p>
  * The top container is a {@link VBox} which contains the columns box, the virtual flow and the footer.
  * <p>
- * The {@link MFXTableView#getTableColumns()} are contained in a {@link HBox}
+ * The {@link MFXTableView#getTableColumns()} are contained in a {@link HBox}. Only the columns in {@link MFXTableView#columnsRangeProperty()}
+ * are added to the box, two spacers fill the space of the others. The box has no min width, so the table can be narrower than its columns,
+ * and it is translated and clipped according to the horizontal position of the virtual flow, so that the columns are always aligned with the rows' cells.
  * <p>
- * At the bottom of the table view there's a footer which by default has two icons to filter/clear filter. Can be changed by overriding
+ * At the bottom of the table view there's a footer which by default has two icons to filter/clear filter, and a progress spinner
+ * shown while the {@link TransformableList} is computing asynchronously, {@link TransformableList#computingProperty()}. Can be changed by overriding
  * {@link #buildFooter()} or hidden(removed) by setting {@link MFXTableView#footerVisibleProperty()} to false.
  * <p></p>
  * The filter mechanism relies on the super flexible {@link MFXFilterPane} shown in a modal dialog.
@@ -64,10 +72,11 @@
 	protected final HBox columnsContainer;
 	protected final SimpleVirtualFlow<T, MFXTableRow<T>> rowsFlow;
 	protected final StackPane footer;
+	private final Region leadingSpacer = new Region();
+	private final Region trailingSpacer = new Region();
 
 	private final MFXFilterPane<T> filterPane;
 	private final MFXStageDialog filterDialog;
-	private MFXTableColumn<T> sortedColumn;
 
 	//================================================================================
 	// Constructors
@@ -78,7 +87,13 @@ public MFXTableViewSkin(MFXTableView<T> tableView, SimpleVirtualFlow<T, MFXTable
 
 		columnsContainer = new HBox();
 		columnsContainer.getStyleClass().add("columns-container");
-		Bindings.bindContent(columnsContainer.getChildren(), tableView.getTableColumns());
+		columnsContainer.setMinWidth(0);
+		columnsContainer.translateXProperty().bind(rowsFlow.horizontalPositionProperty().negate());
+		for (Region spacer : List.of(leadingSpacer, trailingSpacer)) {
+			spacer.setMinWidth(Region.USE_PREF_SIZE);
+			spacer.setMaxWidth(Region.USE_PREF_SIZE);
+		}
+		updateHeader();
 
 		filterPane = new MFXFilterPane<>();
 		Bindings.bindContent(filterPane.getFilters(), tableView.getFilters());
@@ -101,6 +116,12 @@ public MFXTableViewSkin(MFXTableView<T> tableView, SimpleVirtualFlow<T, MFXTable
 				.get();
 		filterDialog.setOnShown(event -> filterDialog.toFront());
 
+		Rectangle clip = new Rectangle();
+		clip.xProperty().bind(rowsFlow.horizontalPositionProperty());
+		clip.widthProperty().bind(container.widthProperty());
+		clip.heightProperty().bind(columnsContainer.heightProperty());
+		columnsContainer.setClip(clip);
+
 		getChildren().setAll(container);
 		addListeners();
 	}
@@ -112,8 +133,8 @@ public MFXTableViewSkin(MFXTableView<T> tableView, SimpleVirtualFlow<T, MFXTable
 	/**
 	 * Specifies the behavior for the following changes/events:
 	 * <p> - Handles the focus on MOUSE_PRESSED
-	 * <p> - Handles the sorting on {@link MFXTableColumnEvent#SORTING_EVENT}
-	 * <p> - Re-builds the cell when columns change
+	 * <p> - Handles the sorting on {@link MFXTableColumnEvent#SORTING_EVENT}, see {@link MFXTableView#updateSortOrder(MFXTableColumn, boolean)}
+	 * <p> - Updates the header and the rows' cells when the columns or the {@link MFXTableView#columnsRangeProperty()} change
 	 * <p> - Handles the footer visibility
 	 */
 	@SuppressWarnings("unchecked")
@@ -121,34 +142,16 @@ private void addListeners() {
 		MFXTableView<T> tableView = getSkinnable();
 
 		tableView.addEventFilter(MouseEvent.MOUSE_PRESSED, event -> tableView.requestFocus());
-		tableView.addEventFilter(MFXTableColumnEvent.SORTING_EVENT, event -> {
-			TransformableListWrapper<T> transformableList = tableView.getTransformableList();
-			MFXTableColumn<T> column = event.getColumn();
-			if (sortedColumn != null && sortedColumn != column) {
-				sortedColumn.setSortState(SortState.UNSORTED);
-			}
-			switch (event.getSortState()) {
-				case UNSORTED: {
-					transformableList.setComparator(null, false);
-					break;
-				}
-				case ASCENDING: {
-					transformableList.setComparator(event.getComparator(), false);
-					break;
-				}
-				case DESCENDING: {
-					transformableList.setComparator(event.getComparator(), true);
-					break;
-				}
-			}
-			sortedColumn = column;
-		});
+		tableView.addEventFilter(MFXTableColumnEvent.SORTING_EVENT, event -> tableView.updateSortOrder(event.getColumn(), event.isAdditive()));
 
-		tableView.getTableColumns().addListener((InvalidationListener) invalidated -> {
+		InvalidationListener columnsChanged = invalidated -> {
+			updateHeader();
 			for (MFXTableRow<T> row : rowsFlow.getCells().values()) {
-				row.buildCells();
+				row.updateColumns();
 			}
-		});
+		};
+		tableView.getTableColumns().addListener(columnsChanged);
+		tableView.columnsRangeProperty().addListener(columnsChanged);
 
 		tableView.footerVisibleProperty().addListener((observable, oldValue, newValue) -> {
 			if (newValue) {
@@ -159,6 +162,26 @@ private void addListeners() {
 		});
 	}
 
+	/**
+	 * Responsible for populating the columns box with the columns in {@link MFXTableView#columnsRangeProperty()},
+	 * and for sizing the spacers to the width of the other columns.
+	 */
+	protected void updateHeader() {
+		MFXTableView<T> tableView = getSkinnable();
+		List<MFXTableColumn<T>> columns = tableView.getTableColumns();
+		NumberRange<Integer> range = tableView.getColumnsRange();
+		int from = Math.max(0, range.getMin());
+		int to = Math.min(columns.size(), range.getMax() + 1);
+
+		List<Node> children = new ArrayList<>();
+		children.add(leadingSpacer);
+		if (from < to) children.addAll(columns.subList(from, to));
+		children.add(trailingSpacer);
+		leadingSpacer.setPrefWidth(tableView.getLeadingColumnsWidth());
+		trailingSpacer.setPrefWidth(tableView.getTrailingColumnsWidth());
+		columnsContainer.getChildren().setAll(children);
+	}
+
 	/**
 	 * Responsible for building the table's footer.
 	 */
@@ -187,7 +210,13 @@ protected StackPane buildFooter() {
 		});
 		filterPane.setOnReset(event -> filterPane.getActiveFilters().clear());
 
-		HBox container = new HBox(10, filterIcon, clearFilterIcon);
+		MFXProgressSpinner busyIndicator = new MFXProgressSpinner();
+		busyIndicator.getStyleClass().add("busy-indicator");
+		busyIndicator.visibleProperty().bind(tableView.getTransformableList().computingProperty());
+		busyIndicator.managedProperty().bind(busyIndicator.visibleProperty());
+
+		HBox container = new HBox(10, filterIcon, clearFilterIcon, busyIndicator);
+		container.setAlignment(Pos.CENTER_LEFT);
 		StackPane.setAlignment(container, Pos.CENTER_LEFT);
 
 		StackPane stackPane = new StackPane(container);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.*;
+
+/**
+ * Writes text to a {@link WritableByteChannel}, the text is encoded into a reusable direct {@link ByteBuffer}
+ * which is written to the channel every time it's full, so the memory used doesn't depend on the amount of text.
+ * <p>
+ * Malformed and unmappable characters are replaced. The text is guaranteed to be written only after {@link #flush()}.
+ * <p>
+ * The channel must be in blocking mode and it's not closed by this class. This class is not thread safe.
+ */
+public class ChannelTextWriter {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final WritableByteChannel channel;
+	private final CharsetEncoder encoder;
+	private final CharBuffer chars;
+	private final ByteBuffer bytes;
+	private long writtenBytes;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ChannelTextWriter(WritableByteChannel channel) {
+		this(channel, StandardCharsets.UTF_8, 64 * 1024);
+	}
+
+	public ChannelTextWriter(WritableByteChannel channel, Charset charset, int bufferSize) {
+		if (bufferSize <= 0) throw new IllegalArgumentException("Buffer size must be greater than 0");
+		this.channel = channel;
+		this.encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.chars = CharBuffer.allocate(bufferSize);
+		this.bytes = ByteBuffer.allocateDirect(Math.max(bufferSize, (int) Math.ceil(encoder.maxBytesPerChar())));
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Writes the given text.
+	 */
+	public ChannelTextWriter write(CharSequence text) throws IOException {
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			if (!chars.hasRemaining()) encode(false);
+			chars.put(text.charAt(i));
+		}
+		return this;
+	}
+
+	/**
+	 * Writes the given char.
+	 */
+	public ChannelTextWriter write(char c) throws IOException {
+		if (!chars.hasRemaining()) encode(false);
+		chars.put(c);
+		return this;
+	}
+
+	/**
+	 * Encodes and writes to the channel all the pending text.
+	 */
+	public void flush() throws IOException {
+		encode(true);
+		while (encoder.flush(bytes).isOverflow()) {
+			drain();
+		}
+		drain();
+		encoder.reset();
+	}
+
+	/**
+	 * Encodes the pending chars, the buffer is written to the channel every time it's full.
+	 * <p>
+	 * Unless it's the end of the input, a trailing high surrogate is kept to be encoded with the next chars.
+	 */
+	private void encode(boolean endOfInput) throws IOException {
+		chars.flip();
+		while (encoder.encode(chars, bytes, endOfInput).isOverflow()) {
+			drain();
+		}
+		chars.compact();
+	}
+
+	/**
+	 * Writes the encoded bytes to the channel.
+	 */
+	private void drain() throws IOException {
+		bytes.flip();
+		while (bytes.hasRemaining()) {
+			writtenBytes += channel.write(bytes);
+		}
+		bytes.clear();
+	}
+
+	/**
+	 * @return the number of bytes written to the channel so far
+	 */
+	public long getWrittenBytes() {
+		return writtenBytes;
+	}
+}
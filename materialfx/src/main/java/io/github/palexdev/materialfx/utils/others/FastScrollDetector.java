@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others;
+
+import javafx.animation.PauseTransition;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
+
+/**
+ * Detects fast scrolling by measuring the velocity at which a scroll position changes,
+ * for example the vertical position of a virtual flow, see {@link #track(ObservableValue)}.
+ * <p>
+ * When two consecutive changes of the position are faster than the {@link #thresholdProperty()},
+ * the {@link #fastScrollingProperty()} becomes true, and it becomes false again as soon as a slower change
+ * is measured, or once the position stays still for the settle delay. A single jump, like a programmatic scroll to an index, is not
+ * considered fast scrolling since the velocity needs two close changes to be measured.
+ * <p>
+ * Virtualized controls can use this to show cheap placeholders in the cells while the user drags
+ * the scrollbar through many items, and render the cells only once the scroll settles.
+ */
+public class FastScrollDetector {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ReadOnlyBooleanWrapper fastScrolling = new ReadOnlyBooleanWrapper(false);
+	private final DoubleProperty threshold = new SimpleDoubleProperty(0);
+	private final PauseTransition settle;
+	private long lastTime = -1;
+	private double lastPosition;
+
+	private static final long MIN_INTERVAL = 8_000_000L;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public FastScrollDetector() {
+		this(Duration.millis(150));
+	}
+
+	public FastScrollDetector(Duration settleDelay) {
+		settle = new PauseTransition(settleDelay);
+		settle.setOnFinished(event -> fastScrolling.set(false));
+		threshold.addListener(invalidated -> {
+			if (getThreshold() <= 0) stop();
+		});
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Starts measuring the velocity of the given scroll position.
+	 */
+	public void track(ObservableValue<? extends Number> position) {
+		position.addListener((observable, oldValue, newValue) -> positionChanged(newValue.doubleValue()));
+	}
+
+	/**
+	 * Computes the velocity from the previous change, in pixels per second, and compares it with the threshold.
+	 * Changes further apart than the settle delay do not measure a velocity.
+	 * <p>
+	 * The interval is at least 8 ms, so that multiple changes in the same pulse do not measure a huge velocity.
+	 * For the same reason, only changes at least 8 ms apart can end the fast scrolling, when their velocity
+	 * is below the threshold.
+	 */
+	protected void positionChanged(double position) {
+		if (getThreshold() <= 0) return;
+
+		long now = System.nanoTime();
+		long interval = now - lastTime;
+		if (lastTime != -1 && interval < settle.getDuration().toMillis() * 1_000_000L) {
+			double velocity = Math.abs(position - lastPosition) / (Math.max(interval, MIN_INTERVAL) / 1_000_000_000.0);
+			if (velocity >= getThreshold()) {
+				fastScrolling.set(true);
+			} else if (interval >= MIN_INTERVAL && isFastScrolling()) {
+				settle.stop();
+				fastScrolling.set(false);
+			}
+		}
+		lastTime = now;
+		lastPosition = position;
+		if (isFastScrolling()) settle.playFromStart();
+	}
+
+	/**
+	 * Ends the fast scrolling immediately, if active.
+	 */
+	public void stop() {
+		settle.stop();
+		lastTime = -1;
+		fastScrolling.set(false);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public boolean isFastScrolling() {
+		return fastScrolling.get();
+	}
+
+	/**
+	 * Specifies whether the position is changing faster than the {@link #thresholdProperty()}.
+	 */
+	public ReadOnlyBooleanProperty fastScrollingProperty() {
+		return fastScrolling.getReadOnlyProperty();
+	}
+
+	public double getThreshold() {
+		return threshold.get();
+	}
+
+	/**
+	 * Specifies the velocity, in pixels per second, above which the scrolling is considered fast.
+	 * <p>
+	 * Values less than or equal to 0 disable the detection, this is the default.
+	 */
+	public DoubleProperty thresholdProperty() {
+		return threshold;
+	}
+
+	public void setThreshold(double threshold) {
+		this.threshold.set(threshold);
+	}
+}
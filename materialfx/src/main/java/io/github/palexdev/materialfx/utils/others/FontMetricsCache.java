@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of MaterialFX (https://github.com/palexdev/MaterialFX).
+ *
+ * MaterialFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MaterialFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with MaterialFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.materialfx.utils.others;
+
+import io.github.palexdev.materialfx.utils.TextUtils;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe cache of glyph advances, used to estimate the width of a text without laying it out.
+ * <p>
+ * Unlike {@link TextUtils#computeTextWidth(Font, String)}, which needs a {@code Scene}, the measures here
+ * are made with detached {@link Text} nodes and can therefore be taken from any thread.
+ * <p>
+ * The estimate is the sum of the advances of the text's code points, so it ignores kerning and
+ * complex shaping. Callers that need the exact width should use the estimate to find the candidates
+ * and then measure them with {@link #computeTextWidth(Font, String)}.
+ */
+public class FontMetricsCache {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final Map<Font, Map<Integer, Double>> advances = new ConcurrentHashMap<>();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private FontMetricsCache() {
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * @return the advance of the given code point for the given font, measured once and then cached
+	 */
+	public static double getAdvance(Font font, int codePoint) {
+		return getAdvance(advances.computeIfAbsent(font, f -> new ConcurrentHashMap<>()), font, codePoint);
+	}
+
+	/**
+	 * Estimates the width of the given text by summing the cached advances of its code points.
+	 */
+	public static double estimateTextWidth(Font font, String text) {
+		if (text == null || text.isEmpty()) return 0;
+
+		Map<Integer, Double> fontAdvances = advances.computeIfAbsent(font, f -> new ConcurrentHashMap<>());
+		double width = 0;
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = text.codePointAt(i);
+			width += getAdvance(fontAdvances, font, codePoint);
+			i += Character.charCount(codePoint);
+		}
+		return width;
+	}
+
+	/**
+	 * Computes the exact width of the given text by using a detached {@link Text} node.
+	 * <p>
+	 * Safe to call from any thread.
+	 */
+	public static double computeTextWidth(Font font, String text) {
+		if (text == null || text.isEmpty()) return 0;
+
+		Text helper = new Text(text);
+		helper.setFont(font);
+		return helper.getLayoutBounds().getWidth();
+	}
+
+	private static double getAdvance(Map<Integer, Double> fontAdvances, Font font, int codePoint) {
+		return fontAdvances.computeIfAbsent(codePoint, c -> computeTextWidth(font, new String(Character.toChars(c))));
+	}
+
+	/**
+	 * Clears the cached advances of every font.
+	 */
+	public static void clear() {
+		advances.clear();
+	}
+}